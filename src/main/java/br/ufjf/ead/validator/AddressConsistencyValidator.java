@@ -0,0 +1,293 @@
+package br.ufjf.ead.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Verificação de consistência entre o CEP e a UF/cidade informadas em um endereço.
+ *
+ * O CEP é validado pelo {@link CepBitmap}, a UF esperada vem das faixas
+ * embutidas em {@link CepDirectory} e o município esperado vem das faixas
+ * por município do diretório informado. O resultado é um conjunto de flags,
+ * 0 quando o endereço é consistente.
+ *
+ * A comparação de cidades ignora maiúsculas, acentos e espaços nas
+ * extremidades, e é feita caractere a caractere, sem criar Strings.
+ *
+ * @author Fabio Oliveira
+ */
+public class AddressConsistencyValidator {
+
+    /** CEP com formato ou padrão inválido. */
+    public static final int INVALID_CEP = 1;
+
+    /** CEP válido que não pertence a nenhuma faixa conhecida. */
+    public static final int UNKNOWN_CEP = 2;
+
+    /** UF informada diferente da UF do CEP (ou sigla inexistente). */
+    public static final int UF_MISMATCH = 4;
+
+    /** Cidade informada diferente do município do CEP. */
+    public static final int CITY_MISMATCH = 8;
+
+    /** Linha do CSV sem todas as colunas informadas (o endereço não é verificado). */
+    public static final int MALFORMED_ROW = 16;
+
+    // Separador de campos do CSV
+    private static final char SEPARATOR = ';';
+
+    // Letra base minúscula de cada caractere Latin-1
+    private static final char[] FOLDED = new char[256];
+
+    static {
+        for (char c = 0; c < 256; c++) {
+            FOLDED[c] = Character.toLowerCase(c);
+        }
+        String accented = "àáâãäåèéêëìíîïòóôõöùúûüçñý";
+        String base = "aaaaaaeeeeiiiiooooouuuucny";
+        for (int i = 0; i < accented.length(); i++) {
+            FOLDED[accented.charAt(i)] = base.charAt(i);
+            FOLDED[Character.toUpperCase(accented.charAt(i))] = base.charAt(i);
+        }
+        FOLDED['ÿ'] = 'y';
+    }
+
+    /**
+     * Recebe as linhas inconsistentes de uma validação em lote.
+     */
+    public interface MismatchHandler {
+
+        /**
+         * @param lineNumber Número da linha no CSV (a partir de 1)
+         * @param cep CEP como inteiro, ou -1 se não contiver 8 dígitos ou a coluna faltar
+         * @param flags Flags de inconsistência (diferente de 0)
+         */
+        void onMismatch(long lineNumber, int cep, int flags);
+    }
+
+    private final CepDirectory directory;
+
+    // Nome de cada município do diretório, já sem acentos e em minúsculas
+    private final String[] cityNames;
+
+    /**
+     * Cria um validador que verifica apenas a UF.
+     */
+    public AddressConsistencyValidator() {
+        this(null);
+    }
+
+    /**
+     * Cria um validador que verifica a UF e o município.
+     *
+     * @param directory Diretório com as faixas por município, ou null para verificar apenas a UF
+     */
+    public AddressConsistencyValidator(CepDirectory directory) {
+        this.directory = directory;
+        if (directory == null) {
+            this.cityNames = new String[0];
+        } else {
+            this.cityNames = new String[directory.getCityCount()];
+            for (int i = 0; i < cityNames.length; i++) {
+                cityNames[i] = fold(directory.getCityName(i));
+            }
+        }
+    }
+
+    /**
+     * Verifica a consistência de um endereço.
+     *
+     * @param cep CEP com ou sem formatação
+     * @param uf Sigla da UF informada, ou null para não verificar
+     * @param city Cidade informada, ou null para não verificar
+     * @return Flags de inconsistência, ou 0 se o endereço for consistente
+     */
+    public int check(String cep, String uf, String city) {
+        return check(CepValidator.toInt(cep),
+            uf, 0, uf == null ? -1 : uf.length(),
+            city, 0, city == null ? -1 : city.length());
+    }
+
+    /**
+     * Verifica a consistência de um endereço com CEP numérico.
+     *
+     * @param cep CEP como inteiro (ver {@link CepValidator#toInt(String)})
+     * @param uf Sigla da UF informada, ou null para não verificar
+     * @param city Cidade informada, ou null para não verificar
+     * @return Flags de inconsistência, ou 0 se o endereço for consistente
+     */
+    public int check(int cep, CharSequence uf, CharSequence city) {
+        return check(cep,
+            uf, 0, uf == null ? -1 : uf.length(),
+            city, 0, city == null ? -1 : city.length());
+    }
+
+    /**
+     * Valida em lote os endereços de um CSV separado por ';' (sem aspas).
+     *
+     * Cada linha é lida uma única vez; o CEP é convertido diretamente para
+     * inteiro e a UF e a cidade são comparadas nas posições da própria linha,
+     * sem criar Strings para os campos.
+     *
+     * @param csv Leitor do CSV
+     * @param header true se a primeira linha for cabeçalho
+     * @param cepColumn Coluna do CEP (a partir de 0)
+     * @param ufColumn Coluna da UF, ou -1 para não verificar
+     * @param cityColumn Coluna da cidade, ou -1 para não verificar
+     * @param handler Recebe as linhas inconsistentes
+     * @return Quantidade de linhas verificadas
+     * @throws IOException se o CSV não puder ser lido
+     * @throws IllegalArgumentException se alguma coluna for inválida
+     */
+    public long checkCsv(BufferedReader csv, boolean header, int cepColumn, int ufColumn, int cityColumn,
+                         MismatchHandler handler) throws IOException {
+        if (cepColumn < 0 || ufColumn < -1 || cityColumn < -1) {
+            throw new IllegalArgumentException("Coluna do CEP deve ser ao menos 0 e as de UF e cidade ao menos -1");
+        }
+        int columns = Math.max(cepColumn, Math.max(ufColumn, cityColumn)) + 1;
+        int[] bounds = new int[columns * 2];
+
+        long lineNumber = 0;
+        long rows = 0;
+        String line;
+        while ((line = csv.readLine()) != null) {
+            lineNumber++;
+            if ((header && lineNumber == 1) || line.isEmpty()) {
+                continue;
+            }
+            rows++;
+
+            // Início e fim de cada coluna necessária
+            int column = 0;
+            int start = 0;
+            for (int i = 0; i <= line.length() && column < columns; i++) {
+                if (i == line.length() || line.charAt(i) == SEPARATOR) {
+                    bounds[column * 2] = start;
+                    bounds[column * 2 + 1] = i;
+                    column++;
+                    start = i + 1;
+                }
+            }
+
+            int flags;
+            int cep = -1;
+            if (column < columns) {
+                // Linha com colunas faltando: informa o CEP se a coluna existir
+                flags = MALFORMED_ROW;
+                if (cepColumn < column) {
+                    cep = parseCep(line, bounds[cepColumn * 2], bounds[cepColumn * 2 + 1]);
+                }
+            } else {
+                cep = parseCep(line, bounds[cepColumn * 2], bounds[cepColumn * 2 + 1]);
+                flags = check(cep,
+                    ufColumn < 0 ? null : line, ufColumn < 0 ? 0 : bounds[ufColumn * 2],
+                    ufColumn < 0 ? -1 : bounds[ufColumn * 2 + 1],
+                    cityColumn < 0 ? null : line, cityColumn < 0 ? 0 : bounds[cityColumn * 2],
+                    cityColumn < 0 ? -1 : bounds[cityColumn * 2 + 1]);
+            }
+            if (flags != 0) {
+                handler.onMismatch(lineNumber, cep, flags);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Verificação sobre trechos de texto.
+     */
+    private int check(int cep, CharSequence uf, int ufStart, int ufEnd,
+                      CharSequence city, int cityStart, int cityEnd) {
+        if (cep < 0 || !CepBitmap.contains(cep)) {
+            return INVALID_CEP;
+        }
+
+        int expectedUf = CepDirectory.getUfId(cep);
+        if (expectedUf == CepDirectory.UNKNOWN) {
+            return UNKNOWN_CEP;
+        }
+
+        int flags = 0;
+        if (uf != null) {
+            // Ignora espaços nas extremidades
+            while (ufStart < ufEnd && Character.isWhitespace(uf.charAt(ufStart))) {
+                ufStart++;
+            }
+            while (ufEnd > ufStart && Character.isWhitespace(uf.charAt(ufEnd - 1))) {
+                ufEnd--;
+            }
+            if (ufEnd - ufStart != 2
+                || CepDirectory.getUfId(uf.charAt(ufStart), uf.charAt(ufStart + 1)) != expectedUf) {
+                flags |= UF_MISMATCH;
+            }
+        }
+
+        if (city != null && directory != null) {
+            int cityId = directory.getCityId(cep);
+            if (cityId == CepDirectory.UNKNOWN) {
+                flags |= UNKNOWN_CEP;
+            } else if (!sameName(cityNames[cityId], city, cityStart, cityEnd)) {
+                flags |= CITY_MISMATCH;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Converte o CEP de um trecho da linha para inteiro, ignorando caracteres não numéricos.
+     */
+    private static int parseCep(CharSequence text, int start, int end) {
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 8) {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
+        }
+        return digits == 8 ? value : -1;
+    }
+
+    /**
+     * Compara um nome já normalizado com um trecho de texto, ignorando
+     * maiúsculas, acentos e espaços nas extremidades do trecho.
+     */
+    private static boolean sameName(String expected, CharSequence text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (fold(text.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove acentos e converte para minúsculas um único caractere.
+     */
+    private static char fold(char c) {
+        return c < 256 ? FOLDED[c] : Character.toLowerCase(c);
+    }
+
+    /**
+     * Remove acentos, converte para minúsculas e remove espaços nas extremidades.
+     */
+    private static String fold(String name) {
+        String trimmed = name.trim();
+        char[] chars = new char[trimmed.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(trimmed.charAt(i));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,333 @@
+package br.ufjf.ead.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabela de faixas de BIN (Bank Identification Number) de cartões.
+ *
+ * As faixas de 6 a 8 dígitos são normalizadas para 8 dígitos e mantidas
+ * em arrays primitivos ordenados, com bandeira, emissor e país como
+ * identificadores inteiros para pools de Strings sem repetições. A
+ * consulta de um PAN é uma única busca binária sobre o início das faixas.
+ *
+ * Instâncias são imutáveis. A tabela padrão pode ser trocada em tempo de
+ * execução com {@link #setDefault(BinTable)}: a troca é atômica e as
+ * consultas em andamento continuam usando a tabela anterior.
+ *
+ * @author Fabio Oliveira
+ */
+public class BinTable {
+
+    /** Posição retornada quando o BIN não está na tabela. */
+    public static final int NOT_FOUND = -1;
+
+    /** Tipo de cartão não informado. */
+    public static final int TYPE_UNKNOWN = 0;
+
+    /** Cartão de crédito. */
+    public static final int TYPE_CREDIT = 1;
+
+    /** Cartão de débito. */
+    public static final int TYPE_DEBIT = 2;
+
+    /** Cartão pré-pago. */
+    public static final int TYPE_PREPAID = 3;
+
+    // Quantidade de dígitos das chaves normalizadas
+    private static final int KEY_DIGITS = 8;
+
+    private static volatile BinTable defaultTable = new BinTable(
+        new int[0], new int[0], new int[0], new int[0], new int[0], new byte[0],
+        new String[0], new String[0], new String[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] brandIds;
+    private final int[] issuerIds;
+    private final int[] countryIds;
+    private final byte[] types;
+    private final String[] brands;
+    private final String[] issuers;
+    private final String[] countries;
+
+    private BinTable(int[] starts, int[] ends, int[] brandIds, int[] issuerIds, int[] countryIds,
+                     byte[] types, String[] brands, String[] issuers, String[] countries) {
+        this.starts = starts;
+        this.ends = ends;
+        this.brandIds = brandIds;
+        this.issuerIds = issuerIds;
+        this.countryIds = countryIds;
+        this.types = types;
+        this.brands = brands;
+        this.issuers = issuers;
+        this.countries = countries;
+    }
+
+    /**
+     * Obtém a tabela padrão (inicialmente vazia).
+     *
+     * @return Tabela padrão
+     */
+    public static BinTable getDefault() {
+        return defaultTable;
+    }
+
+    /**
+     * Substitui atomicamente a tabela padrão.
+     *
+     * @param table Nova tabela
+     * @throws IllegalArgumentException se a tabela for nula
+     */
+    public static void setDefault(BinTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Tabela de BIN não pode ser nula");
+        }
+        defaultTable = table;
+    }
+
+    /**
+     * Carrega uma tabela de um CSV.
+     *
+     * Formato de cada linha (separador ';', cabeçalho opcional na primeira linha):
+     * {@code bin_inicial;bin_final;bandeira;emissor;pais;tipo}, com BINs de 6 a
+     * 8 dígitos e tipo "credito", "debito" ou "pre-pago" (ou vazio).
+     *
+     * @param csv Leitor do CSV com as faixas
+     * @return Tabela de BIN
+     * @throws IOException se o CSV for inválido ou houver faixas sobrepostas
+     */
+    public static BinTable load(BufferedReader csv) throws IOException {
+        List<String> brands = new ArrayList<>();
+        List<String> issuers = new ArrayList<>();
+        List<String> countries = new ArrayList<>();
+        Map<String, Integer> brandIds = new HashMap<>();
+        Map<String, Integer> issuerIds = new HashMap<>();
+        Map<String, Integer> countryIds = new HashMap<>();
+
+        // Cada faixa: início, fim, bandeira, emissor, país, tipo
+        List<int[]> ranges = new ArrayList<>();
+
+        CsvRows rows = new CsvRows(csv, "bin_inicial", "bin_final", "bandeira", "emissor", "pais", "tipo");
+        String[] fields;
+        while ((fields = rows.next()) != null) {
+
+            int start = normalize(fields[0], '0');
+            int end = normalize(fields[1], '9');
+            int type = parseType(fields[5]);
+            if (start < 0 || end < start || type < 0) {
+                throw rows.error("faixa ou tipo inválido");
+            }
+
+            ranges.add(new int[] {
+                start, end,
+                intern(fields[2], brandIds, brands),
+                intern(fields[3], issuerIds, issuers),
+                intern(fields[4], countryIds, countries),
+                type
+            });
+        }
+
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int size = ranges.size();
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        int[] brandColumn = new int[size];
+        int[] issuerColumn = new int[size];
+        int[] countryColumn = new int[size];
+        byte[] types = new byte[size];
+        for (int i = 0; i < size; i++) {
+            int[] range = ranges.get(i);
+            if (i > 0 && range[0] <= ends[i - 1]) {
+                throw new IOException("Faixas de BIN sobrepostas a partir de " + range[0]);
+            }
+            starts[i] = range[0];
+            ends[i] = range[1];
+            brandColumn[i] = range[2];
+            issuerColumn[i] = range[3];
+            countryColumn[i] = range[4];
+            types[i] = (byte) range[5];
+        }
+
+        return new BinTable(starts, ends, brandColumn, issuerColumn, countryColumn, types,
+            brands.toArray(new String[0]), issuers.toArray(new String[0]), countries.toArray(new String[0]));
+    }
+
+    /**
+     * Localiza a faixa de um PAN.
+     *
+     * Caracteres não numéricos (espaços, hífens) são ignorados e apenas os
+     * 8 primeiros dígitos são lidos.
+     *
+     * @param pan Número do cartão
+     * @return Posição da faixa, ou {@link #NOT_FOUND}
+     */
+    public int find(CharSequence pan) {
+        if (pan == null) {
+            return NOT_FOUND;
+        }
+        int key = 0;
+        int digits = 0;
+        for (int i = 0; i < pan.length() && digits < KEY_DIGITS; i++) {
+            char c = pan.charAt(i);
+            if (c >= '0' && c <= '9') {
+                key = key * 10 + (c - '0');
+                digits++;
+            }
+        }
+        return digits == KEY_DIGITS ? find(key) : NOT_FOUND;
+    }
+
+    /**
+     * Localiza a faixa de um BIN de 8 dígitos.
+     *
+     * @param bin Oito primeiros dígitos do cartão, como inteiro
+     * @return Posição da faixa, ou {@link #NOT_FOUND}
+     */
+    public int find(int bin) {
+        // Última faixa com início menor ou igual ao BIN
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= bin) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && ends[high] >= bin ? high : NOT_FOUND;
+    }
+
+    /**
+     * Obtém a bandeira de um PAN em uma única consulta.
+     *
+     * @param pan Número do cartão
+     * @return Identificador da bandeira (ver {@link #getBrandName(int)}), ou {@link #NOT_FOUND}
+     */
+    public int getBrandId(CharSequence pan) {
+        int range = find(pan);
+        return range == NOT_FOUND ? NOT_FOUND : brandIds[range];
+    }
+
+    /**
+     * @param range Posição retornada por {@link #find(int)}
+     * @return Identificador da bandeira da faixa
+     */
+    public int getRangeBrandId(int range) {
+        return brandIds[range];
+    }
+
+    /**
+     * @param brandId Identificador da bandeira
+     * @return Nome da bandeira, como informado no arquivo
+     */
+    public String getBrandName(int brandId) {
+        return brands[brandId];
+    }
+
+    /**
+     * Quantidade de bandeiras distintas (identificadores de 0 a getBrandCount() - 1).
+     *
+     * @return Quantidade de bandeiras
+     */
+    public int getBrandCount() {
+        return brands.length;
+    }
+
+    /**
+     * @param range Posição retornada por {@link #find(int)}
+     * @return Emissor da faixa
+     */
+    public String getIssuer(int range) {
+        return issuers[issuerIds[range]];
+    }
+
+    /**
+     * @param range Posição retornada por {@link #find(int)}
+     * @return País da faixa
+     */
+    public String getCountry(int range) {
+        return countries[countryIds[range]];
+    }
+
+    /**
+     * @param range Posição retornada por {@link #find(int)}
+     * @return Tipo do cartão ({@link #TYPE_CREDIT}, {@link #TYPE_DEBIT}, {@link #TYPE_PREPAID} ou {@link #TYPE_UNKNOWN})
+     */
+    public int getCardType(int range) {
+        return types[range];
+    }
+
+    /**
+     * Quantidade de faixas na tabela.
+     *
+     * @return Quantidade de faixas
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Normaliza um BIN de 6 a 8 dígitos para 8 dígitos.
+     *
+     * @param bin BIN
+     * @param fill Dígito usado para completar (0 no início da faixa, 9 no fim)
+     * @return BIN normalizado, ou -1 se inválido
+     */
+    private static int normalize(String bin, char fill) {
+        if (bin.length() < 6 || bin.length() > KEY_DIGITS) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < KEY_DIGITS; i++) {
+            char c = i < bin.length() ? bin.charAt(i) : fill;
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Converte o tipo do cartão.
+     *
+     * @return Tipo do cartão, ou -1 se não reconhecido
+     */
+    private static int parseType(String type) {
+        switch (type.toLowerCase().replace('é', 'e').replace("-", "").replace(" ", "")) {
+            case "":
+                return TYPE_UNKNOWN;
+            case "credito":
+            case "credit":
+                return TYPE_CREDIT;
+            case "debito":
+            case "debit":
+                return TYPE_DEBIT;
+            case "prepago":
+            case "prepaid":
+                return TYPE_PREPAID;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Obtém o identificador de uma String no pool, incluindo-a se necessário.
+     */
+    private static int intern(String value, Map<String, Integer> ids, List<String> pool) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = pool.size();
+            ids.put(value, id);
+            pool.add(value);
+        }
+        return id;
+    }
+}
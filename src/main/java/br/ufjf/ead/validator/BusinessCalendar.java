@@ -0,0 +1,295 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+/**
+ * Calendário de dias úteis com os feriados nacionais brasileiros.
+ *
+ * Os dias úteis de 1900 a 2100 (o intervalo aceito por {@link DateValidator})
+ * são pré-calculados em um bitset, um bit por dia, em palavras de 64 dias.
+ * {@link #isBusinessDay(int)} é uma consulta de bit e
+ * {@link #addBusinessDays(int, int)} pula palavras inteiras contando os bits.
+ *
+ * Feriados nacionais: 01/01, Carnaval (segunda e terça), Sexta-feira Santa,
+ * 21/04, 01/05, Corpus Christi, 07/09, 12/10, 02/11, 15/11, 20/11 (a partir
+ * de 2024) e 25/12. Feriados estaduais e municipais podem ser incluídos com
+ * {@link #withHoliday(int)} e {@link #withAnnualHoliday(int, int)}.
+ *
+ * @author Fabio Oliveira
+ */
+public class BusinessCalendar {
+
+    private static final int FIRST_YEAR = 1900;
+    private static final int LAST_YEAR = 2100;
+
+    // Dias desde 01/01/1970 do primeiro e do último dia do calendário
+    private static final int FIRST_DAY = DateValidator.toEpochDay(FIRST_YEAR * 10000 + 101);
+    private static final int LAST_DAY = DateValidator.toEpochDay(LAST_YEAR * 10000 + 1231);
+    private static final int DAYS = LAST_DAY - FIRST_DAY + 1;
+
+    // Feriados nacionais de data fixa (mês * 100 + dia)
+    private static final int[] FIXED_HOLIDAYS = {101, 421, 501, 907, 1012, 1102, 1115, 1225};
+
+    // Consciência Negra é feriado nacional desde 2024
+    private static final int BLACK_CONSCIOUSNESS_DAY = 1120;
+    private static final int BLACK_CONSCIOUSNESS_SINCE = 2024;
+
+    private static final BusinessCalendar NATIONAL = new BusinessCalendar(nationalBits());
+
+    // Bit ligado = dia útil; posição = dias desde 01/01/1900
+    private final long[] bits;
+
+    private BusinessCalendar(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Obtém o calendário com os feriados nacionais.
+     *
+     * @return Calendário nacional
+     */
+    public static BusinessCalendar national() {
+        return NATIONAL;
+    }
+
+    /**
+     * Cria um calendário com um feriado adicional em uma data.
+     *
+     * @param yyyymmdd Data do feriado no formato yyyymmdd
+     * @return Novo calendário
+     * @throws IllegalArgumentException se a data for inválida
+     */
+    public BusinessCalendar withHoliday(int yyyymmdd) {
+        long[] copy = bits.clone();
+        clear(copy, index(yyyymmdd));
+        return new BusinessCalendar(copy);
+    }
+
+    /**
+     * Cria um calendário com um feriado adicional em todos os anos (ex: feriado estadual).
+     *
+     * @param month Mês do feriado
+     * @param day Dia do feriado
+     * @return Novo calendário
+     * @throws IllegalArgumentException se o dia não existir em nenhum ano
+     */
+    public BusinessCalendar withAnnualHoliday(int month, int day) {
+        long[] copy = bits.clone();
+        boolean found = false;
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            int epochDay = DateValidator.toEpochDay(year * 10000 + month * 100 + day);
+            if (epochDay != DateValidator.INVALID_DATE) {
+                clear(copy, epochDay - FIRST_DAY);
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("Dia do feriado inválido");
+        }
+        return new BusinessCalendar(copy);
+    }
+
+    /**
+     * Verifica se uma data é dia útil.
+     *
+     * @param yyyymmdd Data no formato yyyymmdd
+     * @return true se não for fim de semana nem feriado
+     * @throws IllegalArgumentException se a data for inválida
+     */
+    public boolean isBusinessDay(int yyyymmdd) {
+        return isSet(index(yyyymmdd));
+    }
+
+    /**
+     * Verifica se uma data em texto é dia útil.
+     *
+     * @param date Data em um dos formatos de {@link DateValidator#validate(String)}
+     * @return true se não for fim de semana nem feriado
+     * @throws InvalidDocumentException se a data for inválida
+     */
+    public boolean isBusinessDay(String date) throws InvalidDocumentException {
+        int value = DateValidator.toYyyymmdd(date);
+        if (value == DateValidator.INVALID_DATE) {
+            DateValidator.validate(date);
+        }
+        return isBusinessDay(value);
+    }
+
+    /**
+     * Soma dias úteis a uma data.
+     *
+     * A data inicial não é contada: somar 1 dia útil a uma sexta-feira
+     * resulta na segunda-feira seguinte (se não for feriado). Com
+     * {@code days} igual a 0 a própria data é retornada.
+     *
+     * @param yyyymmdd Data inicial no formato yyyymmdd
+     * @param days Dias úteis a somar (negativo para subtrair)
+     * @return Data resultante no formato yyyymmdd
+     * @throws IllegalArgumentException se a data for inválida ou o resultado ficar fora de 1900 a 2100
+     */
+    public int addBusinessDays(int yyyymmdd, int days) {
+        int start = index(yyyymmdd);
+        int result = days >= 0 ? forward(start, days) : backward(start, -days);
+        if (result < 0) {
+            throw new IllegalArgumentException("Resultado fora do intervalo de " + FIRST_YEAR + " a " + LAST_YEAR);
+        }
+        return DateValidator.fromEpochDay(FIRST_DAY + result);
+    }
+
+    /**
+     * Conta os dias úteis após a data inicial até a data final (inclusiva).
+     *
+     * @param fromYyyymmdd Data inicial no formato yyyymmdd (não contada)
+     * @param toYyyymmdd Data final no formato yyyymmdd
+     * @return Dias úteis no intervalo (negativo se a data final for anterior)
+     * @throws IllegalArgumentException se alguma data for inválida
+     */
+    public int countBusinessDays(int fromYyyymmdd, int toYyyymmdd) {
+        int from = index(fromYyyymmdd);
+        int to = index(toYyyymmdd);
+        return to >= from ? count(from + 1, to + 1) : -count(to + 1, from + 1);
+    }
+
+    /**
+     * Avança até o n-ésimo dia útil após a posição, pulando palavras inteiras.
+     *
+     * @return Posição do dia, ou -1 se passar do fim do calendário
+     */
+    private int forward(int start, int days) {
+        if (days == 0) {
+            return start;
+        }
+        int position = start + 1;
+        int remaining = days;
+        while (position < DAYS) {
+            int word = position >>> 6;
+            long value = bits[word] & (-1L << position);
+            int count = Long.bitCount(value);
+            if (count >= remaining) {
+                for (int i = 1; i < remaining; i++) {
+                    value &= value - 1;
+                }
+                return (word << 6) + Long.numberOfTrailingZeros(value);
+            }
+            remaining -= count;
+            position = (word + 1) << 6;
+        }
+        return -1;
+    }
+
+    /**
+     * Recua até o n-ésimo dia útil antes da posição, pulando palavras inteiras.
+     *
+     * @return Posição do dia, ou -1 se passar do início do calendário
+     */
+    private int backward(int start, int days) {
+        int position = start - 1;
+        int remaining = days;
+        while (position >= 0) {
+            int word = position >>> 6;
+            long value = bits[word] & (-1L >>> (63 - (position & 63)));
+            int count = Long.bitCount(value);
+            if (count >= remaining) {
+                for (int i = 1; i < remaining; i++) {
+                    value &= ~Long.highestOneBit(value);
+                }
+                return (word << 6) + 63 - Long.numberOfLeadingZeros(value);
+            }
+            remaining -= count;
+            position = (word << 6) - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Conta os bits ligados entre as posições (fim exclusivo).
+     */
+    private int count(int from, int to) {
+        int total = 0;
+        for (int position = from; position < to; ) {
+            int word = position >>> 6;
+            long value = bits[word] & (-1L << position);
+            int wordEnd = (word + 1) << 6;
+            if (to < wordEnd) {
+                value &= (1L << to) - 1;
+            }
+            total += Long.bitCount(value);
+            position = wordEnd;
+        }
+        return total;
+    }
+
+    private boolean isSet(int position) {
+        return (bits[position >>> 6] & (1L << position)) != 0;
+    }
+
+    /**
+     * Posição da data no bitset.
+     */
+    private static int index(int yyyymmdd) {
+        int epochDay = DateValidator.toEpochDay(yyyymmdd);
+        if (epochDay == DateValidator.INVALID_DATE) {
+            throw new IllegalArgumentException("Data inválida: " + yyyymmdd);
+        }
+        return epochDay - FIRST_DAY;
+    }
+
+    private static void clear(long[] bits, int position) {
+        bits[position >>> 6] &= ~(1L << position);
+    }
+
+    /**
+     * Calcula os dias úteis nacionais.
+     */
+    private static long[] nationalBits() {
+        long[] bits = new long[(DAYS + 63) >>> 6];
+
+        // Segunda a sexta (01/01/1970 foi quinta-feira: 0 = segunda-feira)
+        for (int position = 0; position < DAYS; position++) {
+            if (Math.floorMod(FIRST_DAY + position + 3, 7) < 5) {
+                bits[position >>> 6] |= 1L << position;
+            }
+        }
+
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (int holiday : FIXED_HOLIDAYS) {
+                clear(bits, index(year * 10000 + holiday));
+            }
+            if (year >= BLACK_CONSCIOUSNESS_SINCE) {
+                clear(bits, index(year * 10000 + BLACK_CONSCIOUSNESS_DAY));
+            }
+
+            // Feriados móveis a partir da Páscoa
+            int easter = index(easter(year));
+            clear(bits, easter - 48); // Segunda-feira de Carnaval
+            clear(bits, easter - 47); // Terça-feira de Carnaval
+            clear(bits, easter - 2);  // Sexta-feira Santa
+            clear(bits, easter + 60); // Corpus Christi
+        }
+        return bits;
+    }
+
+    /**
+     * Calcula a data da Páscoa (algoritmo de Meeus/Jones/Butcher).
+     *
+     * @param year Ano
+     * @return Domingo de Páscoa no formato yyyymmdd
+     */
+    static int easter(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return year * 10000 + month * 100 + day;
+    }
+}
@@ -0,0 +1,103 @@
+package br.ufjf.ead.validator;
+
+/**
+ * Bandeiras de cartão reconhecidas por {@link CreditCardValidator}, na ordem
+ * de precedência da identificação.
+ *
+ * @author Fabio Oliveira
+ */
+public enum CardBrand {
+
+    VISA("Visa", 13, 16, 19),
+    MASTERCARD("MasterCard", 16),
+    AMEX("American Express", 15),
+    DINERS_CLUB("Diners Club", 14, 16, 19),
+    DISCOVER("Discover", 16, 19),
+    JCB("JCB", 15, 16);
+
+    /** Menor quantidade de dígitos de um número de cartão (PAN). */
+    public static final int MIN_PAN_DIGITS = 12;
+
+    /** Maior quantidade de dígitos de um número de cartão (PAN). */
+    public static final int MAX_PAN_DIGITS = 19;
+
+    private final String name;
+
+    // Bit i ligado quando o comprimento i é válido
+    private final int lengths;
+
+    CardBrand(String name, int... lengths) {
+        this.name = name;
+        int mask = 0;
+        for (int length : lengths) {
+            mask |= 1 << length;
+        }
+        this.lengths = mask;
+    }
+
+    /**
+     * @return Nome da bandeira, como retornado por {@link CreditCardValidator#getCardBrand(String)}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Verifica se a quantidade de dígitos é válida para a bandeira.
+     *
+     * @param length Quantidade de dígitos do cartão
+     * @return true se o comprimento é válido
+     */
+    public boolean isValidLength(int length) {
+        return length > 0 && length < 32 && (lengths & (1 << length)) != 0;
+    }
+
+    /**
+     * @return Quantidade de dígitos do código de segurança (4 para American Express, 3 para as demais)
+     */
+    public int getCvvLength() {
+        return this == AMEX ? 4 : 3;
+    }
+
+    /**
+     * Conta os dígitos de um número de cartão, ignorando os demais caracteres, sem alocação.
+     *
+     * @param cardNumber Número do cartão com ou sem formatação
+     * @return Quantidade de dígitos, ou -1 se o número for nulo ou não tiver de 12 a 19 dígitos
+     */
+    public static int countPanDigits(CharSequence cardNumber) {
+        if (cardNumber == null) {
+            return -1;
+        }
+        int count = 0;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9' && ++count > MAX_PAN_DIGITS) {
+                return -1;
+            }
+        }
+        return count < MIN_PAN_DIGITS ? -1 : count;
+    }
+
+    /**
+     * Remove os caracteres não numéricos de um número de cartão.
+     *
+     * @param cardNumber Número do cartão com ou sem formatação
+     * @return Apenas os dígitos, ou null se o número for nulo ou não tiver de 12 a 19 dígitos
+     */
+    public static String cleanPan(CharSequence cardNumber) {
+        int count = countPanDigits(cardNumber);
+        if (count < 0) {
+            return null;
+        }
+        char[] digits = new char[count];
+        int position = 0;
+        for (int i = 0; position < count; i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits[position++] = c;
+            }
+        }
+        return new String(digits);
+    }
+}
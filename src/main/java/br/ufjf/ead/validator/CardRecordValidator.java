@@ -0,0 +1,195 @@
+package br.ufjf.ead.validator;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+/**
+ * Validação completa de um registro de cartão: número, validade e CVV.
+ *
+ * O número é lido uma única vez, a bandeira é identificada uma única vez e
+ * usada tanto no resultado quanto na verificação do tamanho do CVV (4
+ * dígitos para American Express, 3 para as demais). O resultado é um código
+ * compacto: flags de erro nos bits baixos e a bandeira nos bits altos (ver
+ * {@link #getBrand(int)}), com flags 0 quando o registro é válido.
+ *
+ * O relógio usado para verificar a validade pode ser informado, o que
+ * permite testes determinísticos.
+ *
+ * @author Fabio Oliveira
+ */
+public class CardRecordValidator {
+
+    /** Número nulo, com tamanho inválido ou inválido pelo algoritmo de Luhn. */
+    public static final int INVALID_PAN = 1;
+
+    /** Bandeira não reconhecida. */
+    public static final int UNKNOWN_BRAND = 2;
+
+    /** Mês ou ano de validade inválido. */
+    public static final int INVALID_EXPIRY = 4;
+
+    /** Cartão vencido. */
+    public static final int EXPIRED = 8;
+
+    /** CVV ausente, não numérico ou com tamanho incompatível com a bandeira. */
+    public static final int INVALID_CVV = 16;
+
+    // Bits do código reservados às flags
+    private static final int FLAGS_MASK = 0xFF;
+
+    // Deslocamento da bandeira no código
+    private static final int BRAND_SHIFT = 8;
+
+    private static final CardBrand[] BRANDS = CardBrand.values();
+
+    private final Clock clock;
+
+    /**
+     * Cria um validador que usa o relógio do sistema.
+     */
+    public CardRecordValidator() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Cria um validador com relógio definido.
+     *
+     * @param clock Relógio usado para verificar a validade
+     * @throws IllegalArgumentException se o relógio for nulo
+     */
+    public CardRecordValidator(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Relógio não pode ser nulo");
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Valida um registro com validade no formato MM/AA ou MM/AAAA.
+     *
+     * @param cardNumber Número do cartão (caracteres não numéricos são ignorados)
+     * @param expiry Validade (ex: 08/27 ou 08/2027)
+     * @param cvv Código de segurança
+     * @return Código do resultado (ver {@link #isValid(int)} e {@link #getBrand(int)})
+     */
+    public int check(String cardNumber, String expiry, String cvv) {
+        int month = -1;
+        int year = -1;
+        if (expiry != null) {
+            String value = expiry.trim();
+            int slash = value.indexOf('/');
+            if (slash > 0) {
+                month = parseDigits(value, 0, slash);
+                year = parseDigits(value, slash + 1, value.length());
+                int yearDigits = value.length() - slash - 1;
+                if (yearDigits == 2 && year >= 0) {
+                    year += 2000;
+                } else if (yearDigits != 4) {
+                    year = -1;
+                }
+            }
+        }
+        return check(cardNumber, month, year, cvv);
+    }
+
+    /**
+     * Valida um registro com mês e ano de validade.
+     *
+     * O cartão é válido até o último dia do mês de validade.
+     *
+     * @param cardNumber Número do cartão (caracteres não numéricos são ignorados)
+     * @param expiryMonth Mês de validade (1 a 12)
+     * @param expiryYear Ano de validade com 4 dígitos
+     * @param cvv Código de segurança
+     * @return Código do resultado (ver {@link #isValid(int)} e {@link #getBrand(int)})
+     */
+    public int check(String cardNumber, int expiryMonth, int expiryYear, String cvv) {
+        int flags = 0;
+
+        // Número e bandeira
+        CardBrand brand = null;
+        String cleanNumber = CardBrand.cleanPan(cardNumber);
+        if (cleanNumber == null || !Luhn.isValid(cleanNumber)) {
+            flags |= INVALID_PAN;
+        } else {
+            brand = CreditCardValidator.getCleanBrand(cleanNumber);
+            if (brand == null) {
+                flags |= UNKNOWN_BRAND;
+            }
+        }
+
+        // Validade
+        if (expiryMonth < 1 || expiryMonth > 12 || expiryYear < 1000 || expiryYear > 9999) {
+            flags |= INVALID_EXPIRY;
+        } else if (YearMonth.of(expiryYear, expiryMonth).isBefore(YearMonth.now(clock))) {
+            flags |= EXPIRED;
+        }
+
+        // CVV
+        int cvvLength = cvv == null ? -1 : cvv.length();
+        boolean validCvv = parseDigits(cvv, 0, cvvLength) >= 0;
+        if (brand != null) {
+            validCvv &= cvvLength == brand.getCvvLength();
+        } else {
+            validCvv &= cvvLength == 3 || cvvLength == 4;
+        }
+        if (!validCvv) {
+            flags |= INVALID_CVV;
+        }
+
+        int brandId = brand == null ? 0 : brand.ordinal() + 1;
+        return (brandId << BRAND_SHIFT) | flags;
+    }
+
+    /**
+     * Verifica se o código indica um registro válido.
+     *
+     * @param result Código retornado por check
+     * @return true se nenhuma flag de erro estiver presente
+     */
+    public static boolean isValid(int result) {
+        return (result & FLAGS_MASK) == 0;
+    }
+
+    /**
+     * Obtém as flags de erro do código.
+     *
+     * @param result Código retornado por check
+     * @return Flags de erro ({@link #INVALID_PAN}, {@link #UNKNOWN_BRAND}, {@link #INVALID_EXPIRY},
+     *         {@link #EXPIRED}, {@link #INVALID_CVV}), ou 0 se válido
+     */
+    public static int getFlags(int result) {
+        return result & FLAGS_MASK;
+    }
+
+    /**
+     * Obtém a bandeira identificada, mesmo que o registro tenha outros erros.
+     *
+     * @param result Código retornado por check
+     * @return Bandeira do cartão, ou null se não identificada
+     */
+    public static CardBrand getBrand(int result) {
+        int brandId = result >>> BRAND_SHIFT;
+        return brandId == 0 ? null : BRANDS[brandId - 1];
+    }
+
+    /**
+     * Converte um trecho composto apenas por dígitos.
+     *
+     * @return Valor do trecho, ou -1 se vazio, longo demais ou com caracteres não numéricos
+     */
+    private static int parseDigits(String value, int start, int end) {
+        if (value == null || end <= start || end - start > 9) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,338 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice local de endereços por CEP.
+ *
+ * O índice é gerado por {@link #compile(BufferedReader, Path)} a partir de um
+ * arquivo no estilo da base DNE dos Correios e gravado em um formato binário
+ * compacto: os CEPs ficam em um array de inteiros ordenado e logradouro,
+ * bairro e cidade são referências para um pool de Strings sem repetições.
+ * O arquivo é mapeado em memória e a busca é binária sobre os CEPs, sem
+ * criar objetos até que o endereço seja efetivamente lido.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepAddressIndex {
+
+    /** Posição retornada quando o CEP não está no índice. */
+    public static final int NOT_FOUND = -1;
+
+    // Cabeçalho do arquivo binário
+    private static final int MAGIC = 0x43455041; // "CEPA"
+    private static final int VERSION = 1;
+
+    // Referências de cada entrada: logradouro, bairro e cidade
+    private static final int STREET = 0;
+    private static final int NEIGHBORHOOD = 1;
+    private static final int CITY = 2;
+    private static final int FIELDS = 3;
+
+    private final int entryCount;
+    private final IntBuffer keys;
+    private final IntBuffer references;
+    private final ByteBuffer ufs;
+    private final IntBuffer stringOffsets;
+    private final ByteBuffer stringPool;
+
+    private CepAddressIndex(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Arquivo de endereços inválido");
+        }
+        entryCount = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int poolSize = buffer.getInt();
+
+        keys = CepDirectory.slice(buffer, entryCount).asIntBuffer();
+        references = CepDirectory.slice(buffer, entryCount * FIELDS).asIntBuffer();
+        stringOffsets = CepDirectory.slice(buffer, stringCount + 1).asIntBuffer();
+        ufs = CepDirectory.slice(buffer, entryCount, 1);
+        stringPool = CepDirectory.slice(buffer, poolSize, 1);
+    }
+
+    /**
+     * Endereço associado a um CEP.
+     */
+    public static class Address {
+
+        private final int cep;
+        private final String street;
+        private final String neighborhood;
+        private final String city;
+        private final String uf;
+
+        Address(int cep, String street, String neighborhood, String city, String uf) {
+            this.cep = cep;
+            this.street = street;
+            this.neighborhood = neighborhood;
+            this.city = city;
+            this.uf = uf;
+        }
+
+        /**
+         * @return CEP formatado (XXXXX-XXX)
+         */
+        public String getCep() {
+            return CepValidator.format(String.format("%08d", cep));
+        }
+
+        /**
+         * @return Logradouro (vazio para CEPs de município inteiro)
+         */
+        public String getStreet() {
+            return street;
+        }
+
+        /**
+         * @return Bairro (vazio para CEPs de município inteiro)
+         */
+        public String getNeighborhood() {
+            return neighborhood;
+        }
+
+        /**
+         * @return Cidade
+         */
+        public String getCity() {
+            return city;
+        }
+
+        /**
+         * @return Sigla da UF
+         */
+        public String getUf() {
+            return uf;
+        }
+
+        @Override
+        public String toString() {
+            return street + ", " + neighborhood + ", " + city + " - " + uf + ", " + getCep();
+        }
+    }
+
+    /**
+     * Abre um índice de endereços, mapeando-o em memória.
+     *
+     * @param file Arquivo gerado por {@link #compile(BufferedReader, Path)}
+     * @return Índice de endereços
+     * @throws IOException se o arquivo não puder ser lido ou for inválido
+     */
+    public static CepAddressIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CepAddressIndex(buffer);
+        }
+    }
+
+    /**
+     * Gera o arquivo binário do índice a partir de um CSV.
+     *
+     * Formato de cada linha (separador ';', cabeçalho opcional na primeira linha):
+     * {@code cep;logradouro;bairro;cidade;uf}
+     *
+     * @param csv Leitor do CSV com os endereços
+     * @param file Arquivo binário a ser gerado
+     * @throws IOException se o CSV for inválido ou o arquivo não puder ser gravado
+     */
+    public static void compile(BufferedReader csv, Path file) throws IOException {
+        List<int[]> entries = new ArrayList<>();
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+
+        CsvRows rows = new CsvRows(csv, "cep", "logradouro", "bairro", "cidade", "uf");
+        String[] fields;
+        while ((fields = rows.next()) != null) {
+
+            int cep = CepValidator.toInt(fields[0]);
+            int uf = CepDirectory.getUfId(fields[4]);
+            if (cep < 0 || uf == CepDirectory.UNKNOWN) {
+                throw rows.error("CEP ou UF inválido");
+            }
+
+            int[] entry = new int[FIELDS + 2];
+            entry[FIELDS] = cep;
+            entry[FIELDS + 1] = uf;
+            for (int field = 0; field < FIELDS; field++) {
+                String value = fields[field + 1];
+                Integer id = stringIds.get(value);
+                if (id == null) {
+                    id = strings.size();
+                    stringIds.put(value, id);
+                    strings.add(value.getBytes(StandardCharsets.UTF_8));
+                }
+                entry[field] = id;
+            }
+            entries.add(entry);
+        }
+
+        // Ordena pelo CEP e verifica duplicidades
+        entries.sort((a, b) -> Integer.compare(a[FIELDS], b[FIELDS]));
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i)[FIELDS] == entries.get(i - 1)[FIELDS]) {
+                throw new IOException("CEP duplicado: " + entries.get(i)[FIELDS]);
+            }
+        }
+
+        int poolSize = 0;
+        for (byte[] string : strings) {
+            poolSize += string.length;
+        }
+
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            out.writeInt(strings.size());
+            out.writeInt(poolSize);
+            for (int[] entry : entries) {
+                out.writeInt(entry[FIELDS]);
+            }
+            for (int[] entry : entries) {
+                for (int field = 0; field < FIELDS; field++) {
+                    out.writeInt(entry[field]);
+                }
+            }
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] string : strings) {
+                offset += string.length;
+                out.writeInt(offset);
+            }
+            for (int[] entry : entries) {
+                out.writeByte(entry[FIELDS + 1]);
+            }
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+        }
+    }
+
+    /**
+     * Valida um CEP e obtém o seu endereço em uma única chamada.
+     *
+     * @param cep CEP com ou sem formatação
+     * @return Endereço do CEP, ou null se o CEP for válido mas não estiver no índice
+     * @throws InvalidDocumentException se o CEP for inválido
+     */
+    public Address lookup(String cep) throws InvalidDocumentException {
+        int value = CepValidator.toInt(cep);
+        if (value < 0 || !CepBitmap.contains(value)) {
+            // Obtém a mensagem de erro da validação completa
+            CepValidator.validate(cep);
+        }
+        int entry = find(value);
+        return entry == NOT_FOUND ? null : getAddress(entry);
+    }
+
+    /**
+     * Localiza a posição de um CEP no índice.
+     *
+     * @param cep CEP como inteiro (ver {@link CepValidator#toInt(String)})
+     * @return Posição da entrada, ou {@link #NOT_FOUND}
+     */
+    public int find(int cep) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int key = keys.get(mid);
+            if (key < cep) {
+                low = mid + 1;
+            } else if (key > cep) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Verifica se um CEP está no índice.
+     *
+     * @param cep CEP como inteiro
+     * @return true se o CEP estiver no índice
+     */
+    public boolean contains(int cep) {
+        return find(cep) != NOT_FOUND;
+    }
+
+    /**
+     * Quantidade de CEPs no índice.
+     *
+     * @return Quantidade de entradas
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Obtém o endereço de uma entrada.
+     *
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Endereço da entrada
+     */
+    public Address getAddress(int entry) {
+        return new Address(keys.get(entry), getStreet(entry), getNeighborhood(entry),
+            getCity(entry), CepDirectory.getUfCode(getUfId(entry)));
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Logradouro da entrada
+     */
+    public String getStreet(int entry) {
+        return getString(entry, STREET);
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Bairro da entrada
+     */
+    public String getNeighborhood(int entry) {
+        return getString(entry, NEIGHBORHOOD);
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Cidade da entrada
+     */
+    public String getCity(int entry) {
+        return getString(entry, CITY);
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Identificador da UF da entrada (ver {@link CepDirectory#getUfCode(int)})
+     */
+    public int getUfId(int entry) {
+        return ufs.get(entry);
+    }
+
+    /**
+     * Lê uma String referenciada por uma entrada.
+     */
+    private String getString(int entry, int field) {
+        return CepDirectory.decode(stringOffsets, stringPool, references.get(entry * FIELDS + field));
+    }
+}
@@ -0,0 +1,323 @@
+package br.ufjf.ead.validator;
+
+import java.io.DataInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Mapa de bits pré-calculado com a validade de todos os 10^8 CEPs.
+ *
+ * Cada CEP de 8 dígitos corresponde a um bit (12,5 MB no total), de modo que
+ * a validade é respondida com um único teste de bit. Junto com o mapa há um
+ * diretório de posições (rank) que permite localizar o n-ésimo CEP válido e,
+ * assim, sortear CEPs válidos de forma uniforme com um único número aleatório.
+ *
+ * Ambos são carregados sob demanda do recurso compactado {@value #RESOURCE},
+ * ou calculados se o recurso não estiver disponível.
+ *
+ * As regras são as mesmas de {@link CepValidator#validate(String)}: um CEP é
+ * inválido se contém três dígitos iguais consecutivos, quatro dígitos em
+ * sequência crescente ou decrescente, ou um par de dígitos repetido três vezes.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepBitmap {
+
+    /** Quantidade total de CEPs de 8 dígitos. */
+    public static final int CEP_SPACE = 100_000_000;
+
+    // Recurso com o mapa pré-calculado (palavras big-endian compactadas com deflate)
+    private static final String RESOURCE = "cep-bitmap.bin";
+
+    // Palavras de 64 bits no mapa
+    private static final int WORD_COUNT = CEP_SPACE / 64 + 1;
+
+    // Palavras de 64 bits por bloco do diretório de posições
+    private static final int WORDS_PER_BLOCK = 64;
+
+    // Blocos do diretório de posições
+    private static final int BLOCK_COUNT = (WORD_COUNT + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK;
+
+    /**
+     * Inicialização preguiçosa e thread-safe do mapa (idioma do holder).
+     */
+    private static class Holder {
+        static final long[] WORDS = new long[WORD_COUNT];
+        static final int[] BLOCK_RANKS = new int[BLOCK_COUNT + 1];
+        static final int COUNT;
+
+        static {
+            load(WORDS, BLOCK_RANKS);
+            COUNT = BLOCK_RANKS[BLOCK_COUNT];
+        }
+    }
+
+    /**
+     * Verifica se um CEP numérico é válido.
+     *
+     * @param cep CEP como inteiro (0 a 99999999)
+     * @return true se o CEP é válido, false caso contrário
+     */
+    public static boolean contains(int cep) {
+        if (cep < 0 || cep >= CEP_SPACE) {
+            return false;
+        }
+        return (Holder.WORDS[cep >>> 6] & (1L << cep)) != 0;
+    }
+
+    /**
+     * Quantidade de CEPs válidos.
+     *
+     * @return Total de CEPs válidos
+     */
+    public static int count() {
+        return Holder.COUNT;
+    }
+
+    /**
+     * Obtém o CEP válido de uma determinada posição, em ordem crescente.
+     *
+     * @param rank Posição do CEP (0 a {@link #count()} - 1)
+     * @return CEP válido na posição informada
+     * @throws IndexOutOfBoundsException se a posição estiver fora do intervalo
+     */
+    public static int select(int rank) {
+        if (rank < 0 || rank >= Holder.COUNT) {
+            throw new IndexOutOfBoundsException("Posição fora do intervalo: " + rank);
+        }
+
+        // Busca binária pelo bloco que contém a posição
+        int[] blockRanks = Holder.BLOCK_RANKS;
+        int low = 0;
+        int high = blockRanks.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blockRanks[mid] <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // Percorre as palavras do bloco
+        long[] words = Holder.WORDS;
+        int remaining = rank - blockRanks[low];
+        int word = low * WORDS_PER_BLOCK;
+        int bits = Long.bitCount(words[word]);
+        while (remaining >= bits) {
+            remaining -= bits;
+            bits = Long.bitCount(words[++word]);
+        }
+
+        // Localiza o bit dentro da palavra
+        long value = words[word];
+        for (int i = 0; i < remaining; i++) {
+            value &= value - 1;
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(value);
+    }
+
+    /**
+     * Sorteia um CEP válido com distribuição uniforme.
+     *
+     * @param random Número aleatório no intervalo [0, 1)
+     * @return CEP válido
+     */
+    public static int sample(double random) {
+        int rank = (int) (random * Holder.COUNT);
+        return select(Math.min(Math.max(rank, 0), Holder.COUNT - 1));
+    }
+
+    /**
+     * Gera o recurso com o mapa pré-calculado.
+     *
+     * Uso: {@code java br.ufjf.ead.validator.CepBitmap src/main/resources/br/ufjf/ead/validator/cep-bitmap.bin}
+     *
+     * @param args Caminho do arquivo de saída
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public static void main(String[] args) throws IOException {
+        long[] words = new long[WORD_COUNT];
+        int[] blockRanks = new int[BLOCK_COUNT + 1];
+        build(words, blockRanks);
+
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * 8 + blockRanks.length * 4);
+        buffer.asLongBuffer().put(words);
+        buffer.position(words.length * 8);
+        buffer.slice().asIntBuffer().put(blockRanks);
+
+        try (OutputStream out = new DeflaterOutputStream(new FileOutputStream(args[0]),
+                new Deflater(Deflater.BEST_COMPRESSION))) {
+            out.write(buffer.array());
+        }
+    }
+
+    /**
+     * Carrega o mapa e o diretório do recurso pré-calculado, ou os calcula se o recurso não existir.
+     *
+     * @param words Array que recebe as palavras do mapa de bits
+     * @param blockRanks Array que recebe o diretório de posições
+     */
+    private static void load(long[] words, int[] blockRanks) {
+        InputStream resource = CepBitmap.class.getResourceAsStream(RESOURCE);
+        if (resource == null) {
+            build(words, blockRanks);
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(resource))) {
+            // Lê em blocos para limitar a memória temporária
+            byte[] chunk = new byte[1 << 20];
+            int word = 0;
+            while (word < words.length) {
+                int length = Math.min(chunk.length, (words.length - word) * 8);
+                in.readFully(chunk, 0, length);
+                ByteBuffer.wrap(chunk, 0, length).asLongBuffer().get(words, word, length / 8);
+                word += length / 8;
+            }
+
+            in.readFully(chunk, 0, blockRanks.length * 4);
+            ByteBuffer.wrap(chunk, 0, blockRanks.length * 4).asIntBuffer().get(blockRanks);
+        } catch (IOException e) {
+            build(words, blockRanks);
+        }
+    }
+
+    /**
+     * Constrói o mapa de bits.
+     *
+     * Os 6 primeiros dígitos são enumerados em profundidade, descartando
+     * prefixos já inválidos. Os 2 últimos dígitos dependem apenas dos dígitos
+     * 1 a 5, então os 100 bits finais de cada prefixo são copiados de uma
+     * máscara pré-calculada para cada contexto de 5 dígitos.
+     *
+     * @param words Array que recebe as palavras do mapa de bits
+     * @param blockRanks Array que recebe o diretório de posições
+     */
+    private static void build(long[] words, int[] blockRanks) {
+        Arrays.fill(words, 0L);
+        long[] suffixMasks = buildSuffixMasks();
+        int[] digits = new int[8];
+
+        for (int d0 = 0; d0 < 10; d0++) {
+            digits[0] = d0;
+            for (int d1 = 0; d1 < 10; d1++) {
+                digits[1] = d1;
+                for (int d2 = 0; d2 < 10; d2++) {
+                    digits[2] = d2;
+                    if (endsInvalid(digits, 2)) {
+                        continue;
+                    }
+                    for (int d3 = 0; d3 < 10; d3++) {
+                        digits[3] = d3;
+                        if (endsInvalid(digits, 3)) {
+                            continue;
+                        }
+                        for (int d4 = 0; d4 < 10; d4++) {
+                            digits[4] = d4;
+                            if (endsInvalid(digits, 4)) {
+                                continue;
+                            }
+                            for (int d5 = 0; d5 < 10; d5++) {
+                                digits[5] = d5;
+                                if (endsInvalid(digits, 5)) {
+                                    continue;
+                                }
+                                int prefix = ((((d0 * 10 + d1) * 10 + d2) * 10 + d3) * 10 + d4) * 10 + d5;
+                                int context = prefix % 100_000;
+                                long bit = prefix * 100L;
+                                orBits(words, bit, suffixMasks[context * 2], 64);
+                                orBits(words, bit + 64, suffixMasks[context * 2 + 1], 36);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Total acumulado de bits até o início de cada bloco
+        int total = 0;
+        for (int block = 0; block < BLOCK_COUNT; block++) {
+            blockRanks[block] = total;
+            int end = Math.min(words.length, (block + 1) * WORDS_PER_BLOCK);
+            for (int word = block * WORDS_PER_BLOCK; word < end; word++) {
+                total += Long.bitCount(words[word]);
+            }
+        }
+        blockRanks[BLOCK_COUNT] = total;
+    }
+
+    /**
+     * Calcula, para cada contexto de 5 dígitos (posições 1 a 5), a máscara
+     * de 100 bits dos 2 últimos dígitos que não geram padrão inválido.
+     *
+     * @return Duas palavras por contexto (bits 0-63 e 64-99)
+     */
+    private static long[] buildSuffixMasks() {
+        long[] masks = new long[100_000 * 2];
+        int[] digits = new int[8];
+        for (int context = 0; context < 100_000; context++) {
+            int value = context;
+            for (int position = 5; position >= 1; position--) {
+                digits[position] = value % 10;
+                value /= 10;
+            }
+            for (int suffix = 0; suffix < 100; suffix++) {
+                digits[6] = suffix / 10;
+                digits[7] = suffix % 10;
+                if (!endsInvalid(digits, 6) && !endsInvalid(digits, 7)) {
+                    masks[context * 2 + (suffix >>> 6)] |= 1L << suffix;
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Verifica se algum padrão inválido termina na posição informada.
+     *
+     * @param digits Dígitos do CEP
+     * @param k Posição do último dígito do padrão
+     * @return true se um padrão inválido termina em {@code k}
+     */
+    static boolean endsInvalid(int[] digits, int k) {
+        // Três dígitos iguais consecutivos
+        if (k >= 2 && digits[k] == digits[k - 1] && digits[k - 1] == digits[k - 2]) {
+            return true;
+        }
+
+        // Quatro dígitos em sequência crescente ou decrescente
+        if (k >= 3) {
+            int step = digits[k] - digits[k - 1];
+            if ((step == 1 || step == -1)
+                && digits[k - 1] - digits[k - 2] == step
+                && digits[k - 2] - digits[k - 3] == step) {
+                return true;
+            }
+        }
+
+        // Par de dígitos repetido três vezes
+        return k >= 5
+            && digits[k] == digits[k - 2] && digits[k - 2] == digits[k - 4]
+            && digits[k - 1] == digits[k - 3] && digits[k - 3] == digits[k - 5];
+    }
+
+    /**
+     * Aplica OU de até 64 bits a partir de uma posição arbitrária do mapa.
+     */
+    private static void orBits(long[] words, long bit, long value, int length) {
+        int word = (int) (bit >>> 6);
+        int shift = (int) (bit & 63);
+        words[word] |= value << shift;
+        if (shift != 0 && shift + length > 64) {
+            words[word + 1] |= value >>> (64 - shift);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package br.ufjf.ead.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Tabela de coordenadas aproximadas (centroides) de CEPs.
+ *
+ * A tabela é carregada de um CSV local e mantida em arrays paralelos
+ * ordenados pelo CEP numérico (os mesmos 8 dígitos de
+ * {@link CepValidator#removeFormatting(String)}). Um {@link GeoPointIndex}
+ * sobre os centroides permite buscar CEPs próximos a uma coordenada, e os
+ * métodos {@code nearest} localizam os pontos de um outro índice (ex: centros
+ * de distribuição) mais próximos de um CEP, sem alocação por consulta.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepCentroids {
+
+    /** Posição retornada quando o CEP não está na tabela. */
+    public static final int NOT_FOUND = -1;
+
+    private final int[] ceps;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final GeoPointIndex index;
+
+    private CepCentroids(int[] ceps, double[] latitudes, double[] longitudes) {
+        this.ceps = ceps;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.index = new GeoPointIndex(latitudes, longitudes);
+    }
+
+    /**
+     * Carrega a tabela de um CSV.
+     *
+     * Formato de cada linha (separador ';', cabeçalho opcional na primeira linha):
+     * {@code cep;latitude;longitude}
+     *
+     * @param csv Leitor do CSV com os centroides
+     * @return Tabela de centroides
+     * @throws IOException se o CSV for inválido
+     */
+    public static CepCentroids load(BufferedReader csv) throws IOException {
+        long[] packed = new long[1024];
+        double[] lats = new double[1024];
+        double[] lons = new double[1024];
+        int size = 0;
+
+        CsvRows rows = new CsvRows(csv, "cep", "latitude", "longitude");
+        String[] fields;
+        while ((fields = rows.next()) != null) {
+
+            int cep = CepValidator.toInt(fields[0]);
+            double lat;
+            double lon;
+            try {
+                lat = Double.parseDouble(fields[1]);
+                lon = Double.parseDouble(fields[2]);
+            } catch (NumberFormatException e) {
+                throw rows.error("coordenada inválida", e);
+            }
+            if (cep < 0 || !(lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180)) {
+                throw rows.error("CEP ou coordenada inválida");
+            }
+
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+                lats = Arrays.copyOf(lats, size * 2);
+                lons = Arrays.copyOf(lons, size * 2);
+            }
+            // CEP nos bits altos e posição original nos baixos, para ordenar sem objetos
+            packed[size] = ((long) cep << 32) | size;
+            lats[size] = lat;
+            lons[size] = lon;
+            size++;
+        }
+
+        Arrays.sort(packed, 0, size);
+        int[] ceps = new int[size];
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            ceps[i] = (int) (packed[i] >>> 32);
+            int original = (int) packed[i];
+            latitudes[i] = lats[original];
+            longitudes[i] = lons[original];
+            if (i > 0 && ceps[i] == ceps[i - 1]) {
+                throw new IOException("CEP duplicado: " + ceps[i]);
+            }
+        }
+        return new CepCentroids(ceps, latitudes, longitudes);
+    }
+
+    /**
+     * Localiza a posição de um CEP na tabela.
+     *
+     * @param cep CEP como inteiro (ver {@link CepValidator#toInt(String)})
+     * @return Posição do CEP, ou {@link #NOT_FOUND}
+     */
+    public int find(int cep) {
+        int position = Arrays.binarySearch(ceps, cep);
+        return position >= 0 ? position : NOT_FOUND;
+    }
+
+    /**
+     * Localiza a posição de um CEP formatado ou não.
+     *
+     * @param cep CEP
+     * @return Posição do CEP, ou {@link #NOT_FOUND}
+     */
+    public int find(String cep) {
+        int value = CepValidator.toInt(cep);
+        return value < 0 ? NOT_FOUND : find(value);
+    }
+
+    /**
+     * Quantidade de CEPs na tabela.
+     *
+     * @return Quantidade de centroides
+     */
+    public int size() {
+        return ceps.length;
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return CEP da posição, como inteiro
+     */
+    public int getCep(int entry) {
+        return ceps[entry];
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Latitude do centroide, em graus
+     */
+    public double getLatitude(int entry) {
+        return latitudes[entry];
+    }
+
+    /**
+     * @param entry Posição retornada por {@link #find(int)}
+     * @return Longitude do centroide, em graus
+     */
+    public double getLongitude(int entry) {
+        return longitudes[entry];
+    }
+
+    /**
+     * Índice espacial dos centroides; os identificadores são as posições na tabela.
+     *
+     * @return Índice dos centroides
+     */
+    public GeoPointIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Busca os k pontos de um índice mais próximos de um CEP.
+     *
+     * @param cep CEP como inteiro
+     * @param points Índice dos pontos (ex: centros de distribuição)
+     * @param k Quantidade máxima de pontos
+     * @param resultIds Recebe os identificadores, do mais próximo ao mais distante
+     * @param resultKm Recebe as distâncias em km
+     * @return Quantidade de pontos encontrados, ou 0 se o CEP não estiver na tabela
+     */
+    public int nearest(int cep, GeoPointIndex points, int k, int[] resultIds, double[] resultKm) {
+        int entry = find(cep);
+        if (entry == NOT_FOUND) {
+            return 0;
+        }
+        return points.nearest(latitudes[entry], longitudes[entry], k, resultIds, resultKm);
+    }
+
+    /**
+     * Busca os pontos de um índice dentro de um raio a partir de um CEP.
+     *
+     * @param cep CEP como inteiro
+     * @param points Índice dos pontos
+     * @param radiusKm Raio em quilômetros
+     * @param resultIds Recebe os identificadores dos pontos encontrados
+     * @return Quantidade total de pontos no raio, ou 0 se o CEP não estiver na tabela
+     */
+    public int withinRadius(int cep, GeoPointIndex points, double radiusKm, int[] resultIds) {
+        int entry = find(cep);
+        if (entry == NOT_FOUND) {
+            return 0;
+        }
+        return points.withinRadius(latitudes[entry], longitudes[entry], radiusKm, resultIds);
+    }
+}
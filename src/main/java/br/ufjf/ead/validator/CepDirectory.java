@@ -0,0 +1,379 @@
+package br.ufjf.ead.validator;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diretório de faixas de CEP por UF e por município.
+ *
+ * As faixas de CEP por UF (Correios) estão embutidas na classe e começam
+ * sempre em um prefixo de 5 dígitos, então a UF é resolvida com um índice
+ * direto de 100.000 posições. As faixas por município são carregadas de um
+ * arquivo binário mapeado em memória, gerado por {@link #compile(BufferedReader, Path)}
+ * a partir de um CSV com as faixas oficiais. Todas as consultas retornam
+ * identificadores inteiros pequenos, sem criar Strings.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepDirectory {
+
+    /** Identificador retornado quando o CEP não pertence a nenhuma faixa. */
+    public static final int UNKNOWN = -1;
+
+    // Siglas das UFs; o identificador da UF é a posição no array
+    private static final String[] UF_CODES = {
+        "AC", "AL", "AM", "AP", "BA", "CE", "DF", "ES", "GO", "MA", "MG", "MS", "MT", "PA",
+        "PB", "PE", "PI", "PR", "RJ", "RN", "RO", "RR", "RS", "SC", "SE", "SP", "TO"
+    };
+
+    // Faixas de CEP por UF: prefixo inicial, prefixo final (5 dígitos) e sigla
+    private static final Object[][] UF_RANGES = {
+        {1000, 19999, "SP"}, {20000, 28999, "RJ"}, {29000, 29999, "ES"}, {30000, 39999, "MG"},
+        {40000, 48999, "BA"}, {49000, 49999, "SE"}, {50000, 56999, "PE"}, {57000, 57999, "AL"},
+        {58000, 58999, "PB"}, {59000, 59999, "RN"}, {60000, 63999, "CE"}, {64000, 64999, "PI"},
+        {65000, 65999, "MA"}, {66000, 68899, "PA"}, {68900, 68999, "AP"}, {69000, 69299, "AM"},
+        {69300, 69399, "RR"}, {69400, 69899, "AM"}, {69900, 69999, "AC"}, {70000, 72799, "DF"},
+        {72800, 72999, "GO"}, {73000, 73699, "DF"}, {73700, 76799, "GO"}, {76800, 76999, "RO"},
+        {77000, 77999, "TO"}, {78000, 78899, "MT"}, {79000, 79999, "MS"}, {80000, 87999, "PR"},
+        {88000, 89999, "SC"}, {90000, 99999, "RS"}
+    };
+
+    // UF de cada prefixo de 5 dígitos
+    private static final byte[] UF_BY_PREFIX = new byte[100_000];
+
+    static {
+        Arrays.fill(UF_BY_PREFIX, (byte) UNKNOWN);
+        for (Object[] range : UF_RANGES) {
+            Arrays.fill(UF_BY_PREFIX, (Integer) range[0], (Integer) range[1] + 1, (byte) getUfId((String) range[2]));
+        }
+    }
+
+    // Cabeçalho do arquivo binário
+    private static final int MAGIC = 0x43455044; // "CEPD"
+    private static final int VERSION = 1;
+    private static final int PREFIX_COUNT = 100_000;
+
+    private final int rangeCount;
+    private final int cityCount;
+    private final IntBuffer prefixFirst;
+    private final IntBuffer rangeStarts;
+    private final IntBuffer rangeEnds;
+    private final IntBuffer rangeCities;
+    private final IntBuffer cityCodes;
+    private final ByteBuffer cityUfs;
+    private final IntBuffer nameOffsets;
+    private final ByteBuffer namePool;
+
+    private CepDirectory(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Arquivo de faixas de CEP inválido");
+        }
+        rangeCount = buffer.getInt();
+        cityCount = buffer.getInt();
+        int poolSize = buffer.getInt();
+
+        prefixFirst = slice(buffer, PREFIX_COUNT + 1).asIntBuffer();
+        rangeStarts = slice(buffer, rangeCount).asIntBuffer();
+        rangeEnds = slice(buffer, rangeCount).asIntBuffer();
+        rangeCities = slice(buffer, rangeCount).asIntBuffer();
+        cityCodes = slice(buffer, cityCount).asIntBuffer();
+        nameOffsets = slice(buffer, cityCount + 1).asIntBuffer();
+        cityUfs = slice(buffer, cityCount, 1);
+        namePool = slice(buffer, poolSize, 1);
+    }
+
+    /**
+     * Abre um arquivo de faixas de CEP, mapeando-o em memória.
+     *
+     * @param file Arquivo gerado por {@link #compile(BufferedReader, Path)}
+     * @return Diretório de faixas
+     * @throws IOException se o arquivo não puder ser lido ou for inválido
+     */
+    public static CepDirectory open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CepDirectory(buffer);
+        }
+    }
+
+    /**
+     * Gera o arquivo binário de faixas a partir de um CSV.
+     *
+     * Formato de cada linha (separador ';', cabeçalho opcional na primeira linha):
+     * {@code cep_inicial;cep_final;uf;codigo_ibge;municipio}
+     *
+     * @param csv Leitor do CSV com as faixas por município
+     * @param file Arquivo binário a ser gerado
+     * @throws IOException se o CSV for inválido ou o arquivo não puder ser gravado
+     */
+    public static void compile(BufferedReader csv, Path file) throws IOException {
+        List<int[]> ranges = new ArrayList<>();
+        Map<Integer, Integer> cityIds = new HashMap<>();
+        List<Integer> codes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> ufs = new ArrayList<>();
+
+        CsvRows rows = new CsvRows(csv, "cep_inicial", "cep_final", "uf", "codigo_ibge", "municipio");
+        String[] fields;
+        while ((fields = rows.next()) != null) {
+
+            int start = CepValidator.toInt(fields[0]);
+            int end = CepValidator.toInt(fields[1]);
+            int uf = getUfId(fields[2]);
+            if (start < 0 || end < start || uf == UNKNOWN) {
+                throw rows.error("faixa ou UF inválida");
+            }
+
+            int code;
+            try {
+                code = Integer.parseInt(fields[3]);
+            } catch (NumberFormatException e) {
+                throw rows.error("código IBGE inválido", e);
+            }
+
+            Integer cityId = cityIds.get(code);
+            if (cityId == null) {
+                cityId = codes.size();
+                cityIds.put(code, cityId);
+                codes.add(code);
+                names.add(fields[4]);
+                ufs.add(uf);
+            }
+            ranges.add(new int[] {start, end, cityId});
+        }
+
+        // Ordena as faixas e verifica sobreposições
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        for (int i = 1; i < ranges.size(); i++) {
+            if (ranges.get(i)[0] <= ranges.get(i - 1)[1]) {
+                throw new IOException("Faixas sobrepostas a partir do CEP " + ranges.get(i)[0]);
+            }
+        }
+
+        // Primeira faixa que termina em cada prefixo de 5 dígitos ou depois dele
+        int[] prefixFirst = new int[PREFIX_COUNT + 1];
+        int range = 0;
+        for (int prefix = 0; prefix <= PREFIX_COUNT; prefix++) {
+            while (range < ranges.size() && ranges.get(range)[1] < prefix * 1000) {
+                range++;
+            }
+            prefixFirst[prefix] = range;
+        }
+
+        byte[][] encodedNames = new byte[names.size()][];
+        int poolSize = 0;
+        for (int i = 0; i < names.size(); i++) {
+            encodedNames[i] = names.get(i).getBytes(StandardCharsets.UTF_8);
+            poolSize += encodedNames[i].length;
+        }
+
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(ranges.size());
+            out.writeInt(codes.size());
+            out.writeInt(poolSize);
+            for (int first : prefixFirst) {
+                out.writeInt(first);
+            }
+            for (int field = 0; field < 3; field++) {
+                for (int[] r : ranges) {
+                    out.writeInt(r[field]);
+                }
+            }
+            for (int code : codes) {
+                out.writeInt(code);
+            }
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] name : encodedNames) {
+                offset += name.length;
+                out.writeInt(offset);
+            }
+            for (int uf : ufs) {
+                out.writeByte(uf);
+            }
+            for (byte[] name : encodedNames) {
+                out.write(name);
+            }
+        }
+    }
+
+    /**
+     * Obtém a UF de um CEP.
+     *
+     * @param cep CEP como inteiro (ver {@link CepValidator#toInt(String)})
+     * @return Identificador da UF, ou {@link #UNKNOWN} se o CEP não pertencer a nenhuma faixa
+     */
+    public static int getUfId(int cep) {
+        if (cep < 0 || cep >= CepBitmap.CEP_SPACE) {
+            return UNKNOWN;
+        }
+        return UF_BY_PREFIX[cep / 1000];
+    }
+
+    /**
+     * Obtém o identificador de uma UF a partir da sigla.
+     *
+     * @param ufCode Sigla da UF (ex: "MG")
+     * @return Identificador da UF, ou {@link #UNKNOWN} se a sigla não existir
+     */
+    public static int getUfId(String ufCode) {
+        if (ufCode == null || ufCode.length() != 2) {
+            return UNKNOWN;
+        }
+        return getUfId(ufCode.charAt(0), ufCode.charAt(1));
+    }
+
+    /**
+     * Obtém o identificador de uma UF a partir dos dois caracteres da sigla.
+     */
+    static int getUfId(char first, char second) {
+        first = Character.toUpperCase(first);
+        second = Character.toUpperCase(second);
+        for (int i = 0; i < UF_CODES.length; i++) {
+            if (UF_CODES[i].charAt(0) == first && UF_CODES[i].charAt(1) == second) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Obtém a sigla de uma UF.
+     *
+     * @param ufId Identificador da UF
+     * @return Sigla da UF, ou null se o identificador for inválido
+     */
+    public static String getUfCode(int ufId) {
+        return ufId >= 0 && ufId < UF_CODES.length ? UF_CODES[ufId] : null;
+    }
+
+    /**
+     * Quantidade de UFs (identificadores de 0 a getUfCount() - 1).
+     *
+     * @return Quantidade de UFs
+     */
+    public static int getUfCount() {
+        return UF_CODES.length;
+    }
+
+    /**
+     * Obtém o município de um CEP.
+     *
+     * O índice por prefixo de 5 dígitos aponta para a primeira faixa candidata,
+     * então a consulta costuma examinar uma única faixa.
+     *
+     * @param cep CEP como inteiro (ver {@link CepValidator#toInt(String)})
+     * @return Identificador do município, ou {@link #UNKNOWN} se o CEP não pertencer a nenhuma faixa
+     */
+    public int getCityId(int cep) {
+        if (cep < 0 || cep >= CepBitmap.CEP_SPACE) {
+            return UNKNOWN;
+        }
+        int range = prefixFirst.get(cep / 1000);
+        while (range < rangeCount && rangeEnds.get(range) < cep) {
+            range++;
+        }
+        if (range < rangeCount && rangeStarts.get(range) <= cep) {
+            return rangeCities.get(range);
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Obtém o município de um CEP formatado ou não.
+     *
+     * @param cep CEP
+     * @return Identificador do município, ou {@link #UNKNOWN} se não encontrado
+     */
+    public int getCityId(String cep) {
+        return getCityId(CepValidator.toInt(cep));
+    }
+
+    /**
+     * Quantidade de municípios (identificadores de 0 a getCityCount() - 1).
+     *
+     * @return Quantidade de municípios
+     */
+    public int getCityCount() {
+        return cityCount;
+    }
+
+    /**
+     * Obtém a UF de um município.
+     *
+     * @param cityId Identificador do município
+     * @return Identificador da UF
+     */
+    public int getCityUfId(int cityId) {
+        return cityUfs.get(cityId);
+    }
+
+    /**
+     * Obtém o código IBGE de um município.
+     *
+     * @param cityId Identificador do município
+     * @return Código IBGE
+     */
+    public int getCityCode(int cityId) {
+        return cityCodes.get(cityId);
+    }
+
+    /**
+     * Obtém o nome de um município.
+     *
+     * @param cityId Identificador do município
+     * @return Nome do município
+     */
+    public String getCityName(int cityId) {
+        return decode(nameOffsets, namePool, cityId);
+    }
+
+    /**
+     * Decodifica uma String UTF-8 de um pool de Strings.
+     */
+    static String decode(IntBuffer offsets, ByteBuffer pool, int id) {
+        int start = offsets.get(id);
+        int end = offsets.get(id + 1);
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = pool.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Recorta um trecho de inteiros do buffer e avança a posição.
+     */
+    static ByteBuffer slice(ByteBuffer buffer, int count) {
+        return slice(buffer, count, 4);
+    }
+
+    /**
+     * Recorta um trecho do buffer e avança a posição.
+     */
+    static ByteBuffer slice(ByteBuffer buffer, int count, int size) {
+        ByteBuffer slice = buffer.slice();
+        slice.limit(count * size);
+        buffer.position(buffer.position() + count * size);
+        return slice;
+    }
+}
@@ -2,6 +2,9 @@ package br.ufjf.ead.validator;
 
 import br.ufjf.ead.exception.InvalidDocumentException;
 
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 /**
  * Validador de CEP (Código de Endereçamento Postal) brasileiro.
  * 
@@ -19,19 +22,80 @@ public class CepValidator {
         "88888888", "99999999"
     };
     
+    /** Região desconhecida (CEP sem 8 dígitos). */
+    public static final int REGION_UNKNOWN = 0;
+    /** Sudeste (SP), CEPs iniciados por 0 ou 1. */
+    public static final int REGION_SP = 1;
+    /** Sudeste (RJ, ES), CEPs iniciados por 2. */
+    public static final int REGION_RJ_ES = 2;
+    /** Sudeste (MG), CEPs iniciados por 3. */
+    public static final int REGION_MG = 3;
+    /** Nordeste (BA, SE), CEPs iniciados por 4. */
+    public static final int REGION_BA_SE = 4;
+    /** Nordeste (PE, AL, PB, RN), CEPs iniciados por 5. */
+    public static final int REGION_PE_AL_PB_RN = 5;
+    /** Norte (AM, PA, AP, TO, RR, AC), CEPs iniciados por 6. */
+    public static final int REGION_NORTH = 6;
+    /** Centro-Oeste (DF, GO, MT, MS), CEPs iniciados por 7. */
+    public static final int REGION_MIDWEST = 7;
+    /** Sul (PR, SC), CEPs iniciados por 8. */
+    public static final int REGION_PR_SC = 8;
+    /** Sul (RS), CEPs iniciados por 9. */
+    public static final int REGION_RS = 9;
+    /** Quantidade de identificadores de região. */
+    public static final int REGION_COUNT = 10;
+    
+    // Nomes de exibição das regiões, por identificador
+    private static final String[] REGION_NAMES = {
+        "Desconhecida", "Sudeste (SP)", "Sudeste (RJ, ES)", "Sudeste (MG)",
+        "Nordeste (BA, SE)", "Nordeste (PE, AL, PB, RN)", "Norte (AM, PA, AP, TO, RR, AC)",
+        "Centro-Oeste (DF, GO, MT, MS)", "Sul (PR, SC)", "Sul (RS)"
+    };
+    
+    // Região de cada primeiro dígito do CEP
+    private static final int[] REGION_BY_DIGIT = {
+        REGION_SP, REGION_SP, REGION_RJ_ES, REGION_MG, REGION_BA_SE,
+        REGION_PE_AL_PB_RN, REGION_NORTH, REGION_MIDWEST, REGION_PR_SC, REGION_RS
+    };
+    
     /**
      * Valida um CEP.
      * 
+     * Aceita os mesmos CEPs que {@link #validate(String)}, mas extrai os dígitos
+     * em uma única varredura e responde com um teste no {@link CepBitmap}.
+     * 
      * @param cep CEP a ser validado
      * @return true se o CEP é válido, false caso contrário
      */
     public static boolean isValid(String cep) {
-        try {
-            validate(cep);
-            return true;
-        } catch (InvalidDocumentException e) {
-            return false;
+        int value = toInt(cep);
+        return value >= 0 && CepBitmap.contains(value);
+    }
+    
+    /**
+     * Converte um CEP para inteiro, ignorando caracteres não numéricos.
+     * 
+     * @param cep CEP com ou sem formatação
+     * @return CEP como inteiro, ou -1 se não contiver exatamente 8 dígitos
+     */
+    public static int toInt(String cep) {
+        if (cep == null) {
+            return -1;
+        }
+        
+        int value = 0;
+        int digits = 0;
+        for (int i = 0; i < cep.length(); i++) {
+            char c = cep.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 8) {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
         }
+        
+        return digits == 8 ? value : -1;
     }
     
     /**
@@ -189,28 +253,94 @@ public class CepValidator {
             return null;
         }
         
-        // Remove formatação
-        String cleanCep = removeFormatting(cep);
-        
-        if (cleanCep.length() != 8) {
-            return "Desconhecida";
+        return REGION_NAMES[getRegionId(cep)];
+    }
+    
+    /**
+     * Obtém o identificador da região de um CEP, sem criar Strings.
+     * 
+     * @param cep CEP com ou sem formatação
+     * @return Identificador da região (ex: {@link #REGION_MG}), ou {@link #REGION_UNKNOWN}
+     */
+    public static int getRegionId(String cep) {
+        return getRegionId(toInt(cep));
+    }
+    
+    /**
+     * Obtém o identificador da região de um CEP numérico.
+     * 
+     * @param cep CEP como inteiro (ver {@link #toInt(String)})
+     * @return Identificador da região, ou {@link #REGION_UNKNOWN} se fora do intervalo
+     */
+    public static int getRegionId(int cep) {
+        if (cep < 0 || cep >= CepBitmap.CEP_SPACE) {
+            return REGION_UNKNOWN;
         }
         
         // Primeiro dígito indica a região
-        char firstDigit = cleanCep.charAt(0);
-        
-        switch (firstDigit) {
-            case '0': return "Sudeste (SP)";
-            case '1': return "Sudeste (SP)";
-            case '2': return "Sudeste (RJ, ES)";
-            case '3': return "Sudeste (MG)";
-            case '4': return "Nordeste (BA, SE)";
-            case '5': return "Nordeste (PE, AL, PB, RN)";
-            case '6': return "Norte (AM, PA, AP, TO, RR, AC)";
-            case '7': return "Centro-Oeste (DF, GO, MT, MS)";
-            case '8': return "Sul (PR, SC)";
-            case '9': return "Sul (RS)";
-            default: return "Desconhecida";
+        return REGION_BY_DIGIT[cep / 10_000_000];
+    }
+    
+    /**
+     * Obtém o nome de exibição de uma região.
+     * 
+     * @param regionId Identificador da região
+     * @return Nome da região, o mesmo retornado por {@link #getRegion(String)}
+     */
+    public static String getRegionName(int regionId) {
+        if (regionId < 0 || regionId >= REGION_COUNT) {
+            return REGION_NAMES[REGION_UNKNOWN];
+        }
+        return REGION_NAMES[regionId];
+    }
+    
+    /**
+     * Conta os CEPs de cada região.
+     * 
+     * A contagem é paralela: cada thread acumula em seu próprio array de
+     * contadores e os arrays são somados ao final.
+     * 
+     * @param ceps CEPs como inteiros
+     * @return Quantidade de CEPs por identificador de região (tamanho {@link #REGION_COUNT})
+     */
+    public static int[] countByRegion(int[] ceps) {
+        return Arrays.stream(ceps).parallel().collect(
+            () -> new int[REGION_COUNT],
+            (counts, cep) -> counts[getRegionId(cep)]++,
+            CepValidator::mergeCounts);
+    }
+    
+    /**
+     * Conta os CEPs de cada região.
+     * 
+     * @param ceps CEPs com ou sem formatação
+     * @return Quantidade de CEPs por identificador de região (tamanho {@link #REGION_COUNT})
+     */
+    public static int[] countByRegion(String[] ceps) {
+        return countByRegion(Arrays.stream(ceps).parallel());
+    }
+    
+    /**
+     * Conta os CEPs de cada região em um stream.
+     * 
+     * Se o stream for paralelo, cada thread acumula em seu próprio array de contadores.
+     * 
+     * @param ceps Stream de CEPs com ou sem formatação
+     * @return Quantidade de CEPs por identificador de região (tamanho {@link #REGION_COUNT})
+     */
+    public static int[] countByRegion(Stream<String> ceps) {
+        return ceps.collect(
+            () -> new int[REGION_COUNT],
+            (counts, cep) -> counts[getRegionId(cep)]++,
+            CepValidator::mergeCounts);
+    }
+    
+    /**
+     * Soma os contadores de uma thread aos de outra.
+     */
+    private static void mergeCounts(int[] target, int[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
         }
     }
     
@@ -258,32 +388,21 @@ public class CepValidator {
     /**
      * Gera um CEP válido aleatório.
      * 
+     * O sorteio é uniforme entre todos os CEPs válidos e usa um único número
+     * aleatório, convertido na posição de um CEP válido no {@link CepBitmap}.
+     * 
      * @return CEP válido
      */
     public static String generateValidCep() {
-        StringBuilder cep = new StringBuilder();
-        
-        // Gera 8 dígitos aleatórios
-        for (int i = 0; i < 8; i++) {
-            cep.append((int) (Math.random() * 10));
-        }
-        
-        // Verifica se gerou um CEP inválido conhecido
-        String generatedCep = cep.toString();
-        for (String invalidCep : KNOWN_INVALID_CEPS) {
-            if (generatedCep.equals(invalidCep)) {
-                // Gera novamente
-                return generateValidCep();
-            }
-        }
+        int value = CepBitmap.sample(Math.random());
         
-        // Verifica padrões sequenciais ou repetitivos
-        if (isSequentialPattern(generatedCep) || isRepetitivePattern(generatedCep)) {
-            // Gera novamente
-            return generateValidCep();
+        char[] digits = new char[8];
+        for (int i = 7; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
         }
         
-        return format(generatedCep);
+        return format(new String(digits));
     }
     
     /**
@@ -294,9 +413,6 @@ public class CepValidator {
      * @return true se forem da mesma região, false caso contrário
      */
     public static boolean isSameRegion(String cep1, String cep2) {
-        String region1 = getRegion(cep1);
-        String region2 = getRegion(cep2);
-        
-        return region1 != null && region2 != null && region1.equals(region2);
+        return cep1 != null && cep2 != null && getRegionId(cep1) == getRegionId(cep2);
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package br.ufjf.ead.validator;
 
 import br.ufjf.ead.exception.InvalidDocumentException;
 
+import java.util.Arrays;
+
 /**
  * Validador de cartões de crédito utilizando o algoritmo de Luhn.
  * 
@@ -14,7 +16,6 @@ public class CreditCardValidator {
     
     // Bandeiras de cartão conhecidas e seus padrões
     private static final String[] VISA_PREFIXES = {"4"};
-    private static final int[] VISA_LENGTHS = {13, 16, 19};
     
     private static final String[] MASTERCARD_PREFIXES = {
         "51", "52", "53", "54", "55",
@@ -22,23 +23,44 @@ public class CreditCardValidator {
         "223", "224", "225", "226", "227", "228", "229",
         "23", "24", "25", "26", "27"
     };
-    private static final int[] MASTERCARD_LENGTHS = {16};
     
     private static final String[] AMEX_PREFIXES = {"34", "37"};
-    private static final int[] AMEX_LENGTHS = {15};
     
     private static final String[] DINERS_PREFIXES = {"300", "301", "302", "303", "304", "305", "309", "36", "38", "39"};
-    private static final int[] DINERS_LENGTHS = {14, 16, 19};
     
     private static final String[] DISCOVER_PREFIXES = {"6011", "622126", "622127", "622128", "622129", 
                                                        "62218", "62219", "6222", "6223", "6224", "6225", 
                                                        "6226", "6227", "6228", "62290", "62291", "622920", 
                                                        "622921", "622922", "622923", "622924", "622925", 
                                                        "644", "645", "646", "647", "648", "649", "65"};
-    private static final int[] DISCOVER_LENGTHS = {16, 19};
     
     private static final String[] JCB_PREFIXES = {"3528", "3529", "353", "354", "355", "356", "357", "358"};
-    private static final int[] JCB_LENGTHS = {15, 16};
+    
+    // Dígitos do prefixo usado na tabela de bandeiras
+    private static final int PREFIX_DIGITS = 6;
+    
+    // Bandeira (ordinal + 1, 0 = nenhuma) de cada prefixo de 6 dígitos,
+    // compilada a partir dos prefixos acima
+    private static final byte[] BRAND_BY_PREFIX = new byte[1_000_000];
+    
+    private static final CardBrand[] BRANDS = CardBrand.values();
+    
+    static {
+        // Preenche em ordem inversa de precedência para que as primeiras bandeiras prevaleçam
+        String[][] prefixes = {
+            VISA_PREFIXES, MASTERCARD_PREFIXES, AMEX_PREFIXES, DINERS_PREFIXES, DISCOVER_PREFIXES, JCB_PREFIXES
+        };
+        for (int b = BRANDS.length - 1; b >= 0; b--) {
+            for (String prefix : prefixes[b]) {
+                int span = 1;
+                for (int i = prefix.length(); i < PREFIX_DIGITS; i++) {
+                    span *= 10;
+                }
+                int start = Integer.parseInt(prefix) * span;
+                Arrays.fill(BRAND_BY_PREFIX, start, start + span, (byte) (b + 1));
+            }
+        }
+    }
     
     /**
      * Valida um número de cartão de crédito.
@@ -91,8 +113,7 @@ public class CreditCardValidator {
         }
         
         // Verifica bandeira
-        String brand = getCardBrand(cleanNumber);
-        if (brand == null) {
+        if (getCleanBrand(cleanNumber) == null) {
             throw new InvalidDocumentException("Bandeira do cartão não reconhecida");
         }
     }
@@ -104,25 +125,7 @@ public class CreditCardValidator {
      * @return true se o algoritmo de Luhn é válido, false caso contrário
      */
     private static boolean validateLuhn(String cardNumber) {
-        int sum = 0;
-        boolean alternate = false;
-        
-        // Processa da direita para a esquerda
-        for (int i = cardNumber.length() - 1; i >= 0; i--) {
-            int n = Integer.parseInt(cardNumber.substring(i, i + 1));
-            
-            if (alternate) {
-                n *= 2;
-                if (n > 9) {
-                    n = (n % 10) + 1;
-                }
-            }
-            
-            sum += n;
-            alternate = !alternate;
-        }
-        
-        return (sum % 10 == 0);
+        return Luhn.isValid(cardNumber);
     }
     
     /**
@@ -132,57 +135,65 @@ public class CreditCardValidator {
      * @return Nome da bandeira do cartão, ou null se não reconhecida
      */
     public static String getCardBrand(String cardNumber) {
-        // Remove caracteres não numéricos
-        String cleanNumber = cardNumber.replaceAll("[^0-9]", "");
-        
-        // Verifica cada bandeira
-        if (matchesBrand(cleanNumber, VISA_PREFIXES, VISA_LENGTHS)) {
-            return "Visa";
-        } else if (matchesBrand(cleanNumber, MASTERCARD_PREFIXES, MASTERCARD_LENGTHS)) {
-            return "MasterCard";
-        } else if (matchesBrand(cleanNumber, AMEX_PREFIXES, AMEX_LENGTHS)) {
-            return "American Express";
-        } else if (matchesBrand(cleanNumber, DINERS_PREFIXES, DINERS_LENGTHS)) {
-            return "Diners Club";
-        } else if (matchesBrand(cleanNumber, DISCOVER_PREFIXES, DISCOVER_LENGTHS)) {
-            return "Discover";
-        } else if (matchesBrand(cleanNumber, JCB_PREFIXES, JCB_LENGTHS)) {
-            return "JCB";
-        }
-        
-        return null;
+        CardBrand brand = getBrand(cardNumber);
+        return brand == null ? null : brand.getName();
     }
     
     /**
-     * Verifica se o número do cartão corresponde a uma bandeira específica.
+     * Identifica a bandeira do cartão.
      * 
-     * @param cardNumber Número do cartão
-     * @param prefixes Prefixos válidos para a bandeira
-     * @param lengths Comprimentos válidos para a bandeira
-     * @return true se corresponde, false caso contrário
+     * @param cardNumber Número do cartão (caracteres não numéricos são ignorados)
+     * @return Bandeira do cartão, ou null se não reconhecida
      */
-    private static boolean matchesBrand(String cardNumber, String[] prefixes, int[] lengths) {
-        // Verifica comprimento
-        boolean validLength = false;
-        for (int length : lengths) {
-            if (cardNumber.length() == length) {
-                validLength = true;
-                break;
+    public static CardBrand getBrand(String cardNumber) {
+        // Lê o prefixo e conta os dígitos, ignorando caracteres não numéricos
+        int prefix = 0;
+        int length = 0;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (length < PREFIX_DIGITS) {
+                    prefix = prefix * 10 + (c - '0');
+                }
+                length++;
             }
         }
-        
-        if (!validLength) {
-            return false;
+        return getBrand(prefix, length);
+    }
+    
+    /**
+     * Identifica a bandeira de um número já sem formatação.
+     * 
+     * @param cleanNumber Número do cartão (apenas dígitos)
+     * @return Bandeira do cartão, ou null se não reconhecida
+     */
+    static CardBrand getCleanBrand(String cleanNumber) {
+        int length = cleanNumber.length();
+        int prefix = 0;
+        for (int i = 0; i < PREFIX_DIGITS && i < length; i++) {
+            prefix = prefix * 10 + (cleanNumber.charAt(i) - '0');
         }
-        
-        // Verifica prefixos
-        for (String prefix : prefixes) {
-            if (cardNumber.startsWith(prefix)) {
-                return true;
-            }
+        return getBrand(prefix, length);
+    }
+    
+    /**
+     * Identifica a bandeira pelo prefixo e pela quantidade de dígitos.
+     * 
+     * @param prefix Até 6 primeiros dígitos do cartão, como inteiro
+     * @param length Quantidade de dígitos do cartão
+     * @return Bandeira do cartão, ou null se não reconhecida
+     */
+    static CardBrand getBrand(int prefix, int length) {
+        // Nenhuma bandeira aceita menos de 6 dígitos
+        if (length < PREFIX_DIGITS) {
+            return null;
         }
-        
-        return false;
+        int id = BRAND_BY_PREFIX[prefix];
+        if (id == 0) {
+            return null;
+        }
+        CardBrand brand = BRANDS[id - 1];
+        return brand.isValidLength(length) ? brand : null;
     }
     
     /**
@@ -296,25 +307,6 @@ public class CreditCardValidator {
      * @return Dígito verificador
      */
     private static String calculateLuhnCheckDigit(String partialNumber) {
-        int sum = 0;
-        boolean alternate = false;
-        
-        // Processa da direita para a esquerda
-        for (int i = partialNumber.length() - 1; i >= 0; i--) {
-            int n = Integer.parseInt(partialNumber.substring(i, i + 1));
-            
-            if (alternate) {
-                n *= 2;
-                if (n > 9) {
-                    n = (n % 10) + 1;
-                }
-            }
-            
-            sum += n;
-            alternate = !alternate;
-        }
-        
-        int checkDigit = (10 - (sum % 10)) % 10;
-        return String.valueOf(checkDigit);
+        return String.valueOf(Luhn.checkDigit(partialNumber));
     }
 }
\ No newline at end of file
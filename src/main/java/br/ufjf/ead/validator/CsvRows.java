@@ -0,0 +1,98 @@
+package br.ufjf.ead.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Leitura das linhas das tabelas CSV (separador ';') carregadas pelos
+ * validadores ({@link CepDirectory}, {@link CepAddressIndex},
+ * {@link CepCentroids} e {@link BinTable}).
+ *
+ * Apenas a primeira linha pode ser cabeçalho, e só é ignorada se os seus
+ * campos forem as colunas declaradas; qualquer outra linha é tratada como
+ * dado. O BOM no início do arquivo e linhas vazias são ignorados, os campos
+ * são devolvidos sem espaços nas pontas e linhas com menos campos que as
+ * colunas geram {@link IOException} com o número da linha.
+ *
+ * @author Fabio Oliveira
+ */
+final class CsvRows {
+
+    private final BufferedReader reader;
+    private final String[] columns;
+    private int lineNumber;
+
+    /**
+     * @param reader Leitor do CSV
+     * @param columns Nomes das colunas, na ordem do cabeçalho opcional
+     */
+    CsvRows(BufferedReader reader, String... columns) {
+        this.reader = reader;
+        this.columns = columns;
+    }
+
+    /**
+     * Lê a próxima linha de dados.
+     *
+     * @return Campos da linha (ao menos um por coluna), ou null no fim do arquivo
+     * @throws IOException se o CSV não puder ser lido ou a linha tiver menos campos que as colunas
+     */
+    String[] next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            String[] fields = line.split(";", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            if (lineNumber == 1 && isHeader(fields)) {
+                continue;
+            }
+            if (fields.length < columns.length) {
+                throw error("esperados " + columns.length + " campos");
+            }
+            return fields;
+        }
+        return null;
+    }
+
+    /**
+     * Cria a exceção de linha inválida para a última linha lida.
+     *
+     * @param message Descrição do problema
+     * @return Exceção com o número da linha
+     */
+    IOException error(String message) {
+        return new IOException("Linha " + lineNumber + ": " + message);
+    }
+
+    /**
+     * Cria a exceção de linha inválida para a última linha lida.
+     *
+     * @param message Descrição do problema
+     * @param cause Causa do problema
+     * @return Exceção com o número da linha
+     */
+    IOException error(String message, Throwable cause) {
+        return new IOException("Linha " + lineNumber + ": " + message, cause);
+    }
+
+    private boolean isHeader(String[] fields) {
+        if (fields.length < columns.length) {
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (!fields[i].equalsIgnoreCase(columns[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
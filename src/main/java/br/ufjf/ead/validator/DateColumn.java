@@ -0,0 +1,204 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Coluna de datas armazenadas como dias desde 01/01/1970 em um int[].
+ *
+ * Ordenação, filtro por intervalo e aritmética de dias operam diretamente
+ * sobre os inteiros, sem criar objetos de data. As conversões de e para
+ * texto e yyyymmdd usam {@link DateValidator}.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateColumn {
+
+    private int[] values;
+    private int size;
+
+    /**
+     * Cria uma coluna vazia.
+     */
+    public DateColumn() {
+        this(16);
+    }
+
+    /**
+     * Cria uma coluna vazia com capacidade inicial.
+     *
+     * @param initialCapacity Capacidade inicial
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public DateColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacidade não pode ser negativa");
+        }
+        this.values = new int[initialCapacity];
+    }
+
+    private DateColumn(int[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Cria uma coluna a partir de dias desde 01/01/1970.
+     *
+     * @param epochDays Dias desde 01/01/1970 (o array é copiado)
+     * @return Coluna com as datas
+     */
+    public static DateColumn ofEpochDays(int... epochDays) {
+        return new DateColumn(epochDays.clone(), epochDays.length);
+    }
+
+    /**
+     * Adiciona uma data em texto.
+     *
+     * @param date Data em um dos formatos de {@link DateValidator#validate(String)}
+     * @throws InvalidDocumentException se a data for inválida
+     */
+    public void add(String date) throws InvalidDocumentException {
+        int epochDay = DateValidator.toEpochDay(date);
+        if (epochDay == DateValidator.INVALID_DATE) {
+            DateValidator.validate(date);
+        }
+        addEpochDay(epochDay);
+    }
+
+    /**
+     * Adiciona uma data em dias desde 01/01/1970.
+     *
+     * @param epochDay Dias desde 01/01/1970
+     */
+    public void addEpochDay(int epochDay) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(16, size * 2));
+        }
+        values[size++] = epochDay;
+    }
+
+    /**
+     * @return Quantidade de datas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index Posição da data
+     * @return Dias desde 01/01/1970
+     */
+    public int getEpochDay(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * @param index Posição da data
+     * @return Data no formato yyyymmdd
+     */
+    public int getYyyymmdd(int index) {
+        return DateValidator.fromEpochDay(getEpochDay(index));
+    }
+
+    /**
+     * @param index Posição da data
+     * @return Data no formato dd/MM/yyyy
+     */
+    public String format(int index) {
+        int value = getYyyymmdd(index);
+        return String.format("%02d/%02d/%04d", value % 100, value / 100 % 100, value / 10000);
+    }
+
+    /**
+     * Ordena as datas em ordem cronológica.
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Conta as datas em um intervalo fechado.
+     *
+     * @param fromEpochDay Início do intervalo (dias desde 01/01/1970)
+     * @param toEpochDay Fim do intervalo (inclusivo)
+     * @return Quantidade de datas no intervalo
+     */
+    public int countInRange(int fromEpochDay, int toEpochDay) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            if (value >= fromEpochDay && value <= toEpochDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cria uma nova coluna com as datas de um intervalo fechado, na ordem atual.
+     *
+     * @param fromEpochDay Início do intervalo (dias desde 01/01/1970)
+     * @param toEpochDay Fim do intervalo (inclusivo)
+     * @return Coluna com as datas do intervalo
+     */
+    public DateColumn filterRange(int fromEpochDay, int toEpochDay) {
+        int[] result = new int[countInRange(fromEpochDay, toEpochDay)];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            if (value >= fromEpochDay && value <= toEpochDay) {
+                result[count++] = value;
+            }
+        }
+        return new DateColumn(result, count);
+    }
+
+    /**
+     * Filtra as datas por um intervalo pré-compilado.
+     *
+     * @param range Intervalo
+     * @return Posições das datas no intervalo
+     */
+    public BitSet filter(DateRange range) {
+        return range.filterEpochDays(values, size);
+    }
+
+    /**
+     * Soma dias a todas as datas.
+     *
+     * @param days Dias a somar (negativo para subtrair)
+     */
+    public void plusDays(int days) {
+        for (int i = 0; i < size; i++) {
+            values[i] += days;
+        }
+    }
+
+    /**
+     * Calcula a diferença em dias entre duas datas da coluna.
+     *
+     * @param from Posição da data inicial
+     * @param to Posição da data final
+     * @return Dias de from até to (negativo se to for anterior)
+     */
+    public int daysBetween(int from, int to) {
+        return getEpochDay(to) - getEpochDay(from);
+    }
+
+    /**
+     * @return Cópia das datas em dias desde 01/01/1970
+     */
+    public int[] toEpochDays() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posição " + index + ", tamanho " + size);
+        }
+    }
+}
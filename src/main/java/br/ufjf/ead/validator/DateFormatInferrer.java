@@ -0,0 +1,180 @@
+package br.ufjf.ead.validator;
+
+/**
+ * Inferência do formato das datas de uma coluna.
+ *
+ * Cada valor amostrado conta um voto para cada formato com o qual é
+ * compatível; valores vazios ou que não são datas em nenhum formato são
+ * contados à parte. Ao final da amostra o formato mais votado é fixado com
+ * {@link #lock()}, independentemente da ordem das linhas, e as demais linhas
+ * são interpretadas apenas com ele ({@link DateLayout#parse(CharSequence)}).
+ * Os valores incompatíveis com o formato fixado são informados por
+ * {@link #getConflictCount()}.
+ *
+ * Se mais de um formato tiver o maior número de votos (ex: todos os valores
+ * com dia até 12, como "03/04/2020"), vale a ordem de {@link DateLayout}, que
+ * prefere dd/MM/yyyy a MM/dd/yyyy, e {@link #isAmbiguous()} retorna true.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateFormatInferrer {
+
+    private static final DateLayout[] LAYOUTS = DateLayout.values();
+
+    // Valores compatíveis com cada formato
+    private final long[] matches = new long[LAYOUTS.length];
+
+    private long sampled;
+    private long rejected;
+
+    /**
+     * Amostra um valor da coluna.
+     *
+     * @param value Valor (espaços nas extremidades são ignorados)
+     */
+    public void sample(CharSequence value) {
+        CharSequence date = trim(value);
+        if (date == null) {
+            rejected++;
+            return;
+        }
+
+        boolean compatible = false;
+        for (int i = 0; i < LAYOUTS.length; i++) {
+            if (LAYOUTS[i].matches(date)) {
+                matches[i]++;
+                compatible = true;
+            }
+        }
+        if (compatible) {
+            sampled++;
+        } else {
+            rejected++;
+        }
+    }
+
+    /**
+     * Amostra vários valores da coluna.
+     *
+     * @param values Valores
+     */
+    public void sampleAll(Iterable<? extends CharSequence> values) {
+        for (CharSequence value : values) {
+            sample(value);
+        }
+    }
+
+    /**
+     * Fixa o formato com base nos valores amostrados.
+     *
+     * @return Formato compatível com mais valores amostrados; no empate, o primeiro na ordem de {@link DateLayout}
+     * @throws IllegalStateException se nenhum valor válido foi amostrado
+     */
+    public DateLayout lock() {
+        if (sampled == 0) {
+            throw new IllegalStateException("Nenhuma data válida amostrada");
+        }
+        return LAYOUTS[best()];
+    }
+
+    /**
+     * Infere o formato de uma amostra.
+     *
+     * @param values Valores da coluna
+     * @return Formato inferido, ou null se nenhum valor for uma data
+     */
+    public static DateLayout infer(Iterable<? extends CharSequence> values) {
+        DateFormatInferrer inferrer = new DateFormatInferrer();
+        inferrer.sampleAll(values);
+        return inferrer.sampled == 0 ? null : inferrer.lock();
+    }
+
+    /**
+     * @return true se mais de um formato tem o maior número de valores compatíveis
+     */
+    public boolean isAmbiguous() {
+        long max = matches[best()];
+        int tied = 0;
+        for (long count : matches) {
+            if (count == max) {
+                tied++;
+            }
+        }
+        return tied > 1;
+    }
+
+    /**
+     * Verifica se um formato é compatível com todos os valores amostrados.
+     *
+     * @param layout Formato
+     * @return true se o formato é compatível
+     */
+    public boolean isCandidate(DateLayout layout) {
+        return matches[layout.ordinal()] == sampled;
+    }
+
+    /**
+     * @param layout Formato
+     * @return Quantidade de valores amostrados compatíveis com o formato
+     */
+    public long getMatchCount(DateLayout layout) {
+        return matches[layout.ordinal()];
+    }
+
+    /**
+     * @return Quantidade de valores amostrados que são datas em algum formato
+     */
+    public long getSampledCount() {
+        return sampled;
+    }
+
+    /**
+     * @return Quantidade de datas amostradas incompatíveis com o formato mais votado
+     */
+    public long getConflictCount() {
+        return sampled - matches[best()];
+    }
+
+    /**
+     * @return Quantidade de valores vazios ou que não são datas em nenhum formato
+     */
+    public long getRejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * Posição do formato com mais valores compatíveis (o primeiro, no empate).
+     */
+    private int best() {
+        int best = 0;
+        for (int i = 1; i < matches.length; i++) {
+            if (matches[i] > matches[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Remove os espaços nas extremidades sem copiar quando não há espaços.
+     *
+     * @return Valor sem espaços, ou null se nulo ou vazio
+     */
+    private static CharSequence trim(CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        return start == 0 && end == value.length() ? value : value.subSequence(start, end);
+    }
+}
@@ -0,0 +1,167 @@
+package br.ufjf.ead.validator;
+
+/**
+ * Formatos de data suportados por {@link DateValidator}, cada um com um
+ * interpretador especializado (separador e ordem dos campos fixos).
+ *
+ * Ao contrário de {@link DateValidator#validate(String)}, que aceita qualquer
+ * separador e quantidade de dígitos, um formato exige o seu separador, dia e
+ * mês com 1 ou 2 dígitos e ano com 4 dígitos.
+ *
+ * @author Fabio Oliveira
+ */
+public enum DateLayout {
+
+    DD_MM_YYYY_SLASH("dd/MM/yyyy", '/', Order.DAY_MONTH_YEAR),
+    DD_MM_YYYY_DASH("dd-MM-yyyy", '-', Order.DAY_MONTH_YEAR),
+    DD_MM_YYYY_DOT("dd.MM.yyyy", '.', Order.DAY_MONTH_YEAR),
+    YYYY_MM_DD_SLASH("yyyy/MM/dd", '/', Order.YEAR_MONTH_DAY),
+    YYYY_MM_DD_DASH("yyyy-MM-dd", '-', Order.YEAR_MONTH_DAY),
+    YYYY_MM_DD_DOT("yyyy.MM.dd", '.', Order.YEAR_MONTH_DAY),
+    MM_DD_YYYY_SLASH("MM/dd/yyyy", '/', Order.MONTH_DAY_YEAR),
+    MM_DD_YYYY_DASH("MM-dd-yyyy", '-', Order.MONTH_DAY_YEAR),
+    MM_DD_YYYY_DOT("MM.dd.yyyy", '.', Order.MONTH_DAY_YEAR);
+
+    /**
+     * Ordem dos campos.
+     */
+    private enum Order {
+        DAY_MONTH_YEAR, YEAR_MONTH_DAY, MONTH_DAY_YEAR
+    }
+
+    private final String pattern;
+    private final char separator;
+    private final Order order;
+
+    DateLayout(String pattern, char separator, Order order) {
+        this.pattern = pattern;
+        this.separator = separator;
+        this.order = order;
+    }
+
+    /**
+     * @return Padrão do formato (ex: dd/MM/yyyy)
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return Separador dos campos
+     */
+    public char getSeparator() {
+        return separator;
+    }
+
+    /**
+     * Obtém o formato de um padrão.
+     *
+     * @param pattern Padrão (ex: yyyy-MM-dd)
+     * @return Formato, ou null se o padrão não for suportado
+     */
+    public static DateLayout ofPattern(String pattern) {
+        for (DateLayout layout : values()) {
+            if (layout.pattern.equals(pattern)) {
+                return layout;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifica se o texto é uma data válida neste formato.
+     *
+     * @param date Texto com a data (sem espaços)
+     * @return true se a data é válida
+     */
+    public boolean matches(CharSequence date) {
+        return parse(date) != DateValidator.INVALID_DATE;
+    }
+
+    /**
+     * Interpreta uma data neste formato.
+     *
+     * @param date Texto com a data (sem espaços)
+     * @return Data no formato yyyymmdd, ou {@link DateValidator#INVALID_DATE}
+     */
+    public int parse(CharSequence date) {
+        if (date == null) {
+            return DateValidator.INVALID_DATE;
+        }
+        int length = date.length();
+        boolean yearFirst = order == Order.YEAR_MONTH_DAY;
+
+        // Primeiro campo
+        int position = 0;
+        int first = 0;
+        int firstDigits = 0;
+        while (position < length && date.charAt(position) != separator) {
+            int digit = date.charAt(position++) - '0';
+            if (digit < 0 || digit > 9) {
+                return DateValidator.INVALID_DATE;
+            }
+            first = first * 10 + digit;
+            if (++firstDigits > 4) {
+                return DateValidator.INVALID_DATE;
+            }
+        }
+
+        // Segundo campo (sempre dia ou mês)
+        int second = 0;
+        int secondDigits = 0;
+        position++;
+        while (position < length && date.charAt(position) != separator) {
+            int digit = date.charAt(position++) - '0';
+            if (digit < 0 || digit > 9 || ++secondDigits > 2) {
+                return DateValidator.INVALID_DATE;
+            }
+            second = second * 10 + digit;
+        }
+
+        // Terceiro campo, até o fim do texto
+        int third = 0;
+        int thirdDigits = 0;
+        position++;
+        if (position > length) {
+            return DateValidator.INVALID_DATE;
+        }
+        while (position < length) {
+            int digit = date.charAt(position++) - '0';
+            if (digit < 0 || digit > 9 || ++thirdDigits > 4) {
+                return DateValidator.INVALID_DATE;
+            }
+            third = third * 10 + digit;
+        }
+
+        // Quantidade de dígitos de cada campo
+        if (yearFirst ? firstDigits != 4 || thirdDigits < 1 || thirdDigits > 2
+                      : firstDigits < 1 || firstDigits > 2 || thirdDigits != 4) {
+            return DateValidator.INVALID_DATE;
+        }
+        if (secondDigits < 1) {
+            return DateValidator.INVALID_DATE;
+        }
+
+        int day;
+        int month;
+        int year;
+        switch (order) {
+            case DAY_MONTH_YEAR:
+                day = first;
+                month = second;
+                year = third;
+                break;
+            case YEAR_MONTH_DAY:
+                year = first;
+                month = second;
+                day = third;
+                break;
+            default:
+                month = first;
+                day = second;
+                year = third;
+                break;
+        }
+        return DateValidator.toYyyymmdd(year, month, day);
+    }
+}
@@ -0,0 +1,189 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Interpretador de datas configurado uma única vez por arquivo.
+ *
+ * Além dos formatos de {@link DateValidator#validate(String)}, pode aceitar
+ * anos com 2 dígitos (dd/MM/yy e MM/dd/yy) dentro de uma janela de 100 anos
+ * e datas sem separadores (ddMMyyyy, yyyyMMdd, MMddyyyy e, com a janela,
+ * ddMMyy e MMddyy). A interpretação é a mesma passada única de
+ * {@link DateValidator}; os formatos adicionais só são testados quando
+ * habilitados e quando os formatos suportados falham, portanto não mudam a
+ * interpretação das datas já aceitas nem custam nada quando desabilitados.
+ *
+ * Exemplo para um arquivo legado com datas ddMMyy de nascimento:
+ * <pre>
+ * DateParser parser = DateParser.standard().withCompactLayouts().withTwoDigitYears(clock, 0);
+ * int yyyymmdd = parser.toYyyymmdd("160785"); // 19850716
+ * </pre>
+ *
+ * @author Fabio Oliveira
+ */
+public class DateParser {
+
+    private static final int MIN_WINDOW_START = 1900;
+    private static final int MAX_WINDOW_START = 2100 - 99;
+
+    private static final DateParser STANDARD = new DateParser(0, false);
+
+    // Primeiro ano da janela de anos com 2 dígitos, ou 0 se desabilitada
+    private final int windowStart;
+    private final boolean compact;
+
+    private DateParser(int windowStart, boolean compact) {
+        this.windowStart = windowStart;
+        this.compact = compact;
+    }
+
+    /**
+     * Obtém o interpretador com apenas os formatos de {@link DateValidator}.
+     *
+     * @return Interpretador padrão
+     */
+    public static DateParser standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Cria um interpretador que aceita anos com 2 dígitos em uma janela fixa.
+     *
+     * Com a janela iniciada em 1950, "49" é 2049 e "50" é 1950.
+     *
+     * @param windowStart Primeiro ano da janela de 100 anos (de 1900 a 2001)
+     * @return Novo interpretador
+     * @throws IllegalArgumentException se a janela sair do intervalo de 1900 a 2100
+     */
+    public DateParser withTwoDigitYears(int windowStart) {
+        if (windowStart < MIN_WINDOW_START || windowStart > MAX_WINDOW_START) {
+            throw new IllegalArgumentException("Início da janela deve estar entre "
+                + MIN_WINDOW_START + " e " + MAX_WINDOW_START);
+        }
+        return new DateParser(windowStart, compact);
+    }
+
+    /**
+     * Cria um interpretador que aceita anos com 2 dígitos em uma janela
+     * relativa ao ano atual do relógio.
+     *
+     * Com {@code yearsAhead} igual a 0 a janela termina no ano atual, o
+     * adequado para datas de nascimento; com 20, um ano até 20 anos à frente
+     * é interpretado no futuro (ex: vencimentos).
+     *
+     * @param clock Relógio que define o ano atual
+     * @param yearsAhead Anos da janela posteriores ao ano atual (de 0 a 99)
+     * @return Novo interpretador
+     * @throws IllegalArgumentException se yearsAhead for inválido ou a janela sair do intervalo de 1900 a 2100
+     */
+    public DateParser withTwoDigitYears(Clock clock, int yearsAhead) {
+        if (yearsAhead < 0 || yearsAhead > 99) {
+            throw new IllegalArgumentException("Anos à frente devem estar entre 0 e 99");
+        }
+        return withTwoDigitYears(LocalDate.now(clock).getYear() + yearsAhead - 99);
+    }
+
+    /**
+     * Cria um interpretador que aceita datas sem separadores.
+     *
+     * @return Novo interpretador
+     */
+    public DateParser withCompactLayouts() {
+        return new DateParser(windowStart, true);
+    }
+
+    /**
+     * Converte uma data em um inteiro no formato yyyymmdd.
+     *
+     * @param date Data a ser convertida
+     * @return Data no formato yyyymmdd, ou {@link DateValidator#INVALID_DATE}
+     */
+    public int toYyyymmdd(CharSequence date) {
+        return DateValidator.toYyyymmdd(date, windowStart, compact);
+    }
+
+    /**
+     * Converte uma data na quantidade de dias desde 01/01/1970.
+     *
+     * @param date Data a ser convertida
+     * @return Dias desde 01/01/1970, ou {@link DateValidator#INVALID_DATE}
+     */
+    public int toEpochDay(CharSequence date) {
+        int value = toYyyymmdd(date);
+        return value == DateValidator.INVALID_DATE ? DateValidator.INVALID_DATE : DateValidator.toEpochDay(value);
+    }
+
+    /**
+     * Valida uma data.
+     *
+     * @param date Data a ser validada
+     * @return true se a data é válida, false caso contrário
+     */
+    public boolean isValid(CharSequence date) {
+        return toYyyymmdd(date) != DateValidator.INVALID_DATE;
+    }
+
+    /**
+     * Valida uma data e lança exceção se inválida.
+     *
+     * @param date Data a ser validada
+     * @throws InvalidDocumentException se a data for inválida
+     */
+    public void validate(String date) throws InvalidDocumentException {
+        if (date == null || date.trim().isEmpty()) {
+            throw new InvalidDocumentException("Data não pode ser nula ou vazia");
+        }
+        if (!isValid(date)) {
+            throw new InvalidDocumentException("Formato de data inválido: " + date);
+        }
+    }
+
+    /**
+     * Formata uma data para o padrão brasileiro.
+     *
+     * Ao contrário de {@link DateValidator#formatBrazilian(String)}, a data é
+     * interpretada com os formatos configurados (incluindo anos com 2 dígitos)
+     * em vez de reagrupar os dígitos.
+     *
+     * @param date Data a ser formatada
+     * @return Data no padrão dd/MM/yyyy, o texto original se for inválida, ou null se nula
+     */
+    public String formatBrazilian(String date) {
+        int value = toYyyymmdd(date);
+        if (value == DateValidator.INVALID_DATE) {
+            return date;
+        }
+        return String.format("%02d/%02d/%04d", value % 100, value / 100 % 100, value / 10000);
+    }
+
+    /**
+     * Formata uma data para o padrão ISO (yyyy-MM-dd).
+     *
+     * @param date Data a ser formatada
+     * @return Data no padrão yyyy-MM-dd, o texto original se for inválida, ou null se nula
+     */
+    public String formatISO(String date) {
+        int value = toYyyymmdd(date);
+        if (value == DateValidator.INVALID_DATE) {
+            return date;
+        }
+        return String.format("%04d-%02d-%02d", value / 10000, value / 100 % 100, value % 100);
+    }
+
+    /**
+     * @return Primeiro ano da janela de anos com 2 dígitos, ou 0 se não são aceitos
+     */
+    public int getWindowStart() {
+        return windowStart;
+    }
+
+    /**
+     * @return true se datas sem separadores são aceitas
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+}
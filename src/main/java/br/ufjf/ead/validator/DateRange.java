@@ -0,0 +1,156 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+import java.util.BitSet;
+
+/**
+ * Intervalo fechado de datas, compilado uma única vez para filtros de alto volume.
+ *
+ * Os limites são convertidos na criação para yyyymmdd e para dias desde
+ * 01/01/1970; cada teste é apenas uma conversão do valor (quando em texto)
+ * e uma comparação, sem alocação. Ao contrário de
+ * {@link DateValidator#isInRange(String, String, String)}, as datas em texto
+ * são validadas e aceitas em qualquer formato suportado; datas inválidas
+ * ficam fora do intervalo.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateRange {
+
+    private final int fromYyyymmdd;
+    private final int toYyyymmdd;
+    private final int fromEpochDay;
+    private final int toEpochDay;
+
+    /**
+     * Cria um intervalo a partir de datas em texto.
+     *
+     * @param start Data inicial (inclusiva), em um dos formatos de {@link DateValidator#validate(String)}
+     * @param end Data final (inclusiva)
+     * @throws InvalidDocumentException se alguma das datas for inválida
+     * @throws IllegalArgumentException se a data inicial for posterior à final
+     */
+    public DateRange(String start, String end) throws InvalidDocumentException {
+        this(parse(start), parse(end));
+    }
+
+    private DateRange(int fromYyyymmdd, int toYyyymmdd) {
+        if (fromYyyymmdd > toYyyymmdd) {
+            throw new IllegalArgumentException("Data inicial posterior à data final");
+        }
+        this.fromYyyymmdd = fromYyyymmdd;
+        this.toYyyymmdd = toYyyymmdd;
+        this.fromEpochDay = DateValidator.toEpochDay(fromYyyymmdd);
+        this.toEpochDay = DateValidator.toEpochDay(toYyyymmdd);
+    }
+
+    /**
+     * Cria um intervalo a partir de datas yyyymmdd.
+     *
+     * @param start Data inicial (inclusiva) no formato yyyymmdd
+     * @param end Data final (inclusiva) no formato yyyymmdd
+     * @return Intervalo
+     * @throws IllegalArgumentException se alguma das datas for inválida ou a inicial for posterior à final
+     */
+    public static DateRange ofYyyymmdd(int start, int end) {
+        if (DateValidator.toEpochDay(start) == DateValidator.INVALID_DATE
+            || DateValidator.toEpochDay(end) == DateValidator.INVALID_DATE) {
+            throw new IllegalArgumentException("Data inválida");
+        }
+        return new DateRange(start, end);
+    }
+
+    /**
+     * Verifica se uma data em texto está no intervalo.
+     *
+     * @param date Data em um dos formatos de {@link DateValidator#validate(String)}
+     * @return true se a data é válida e está no intervalo
+     */
+    public boolean test(CharSequence date) {
+        return test(DateValidator.toYyyymmdd(date));
+    }
+
+    /**
+     * Verifica se uma data yyyymmdd está no intervalo.
+     *
+     * @param yyyymmdd Data no formato yyyymmdd
+     * @return true se a data está no intervalo
+     */
+    public boolean test(int yyyymmdd) {
+        return yyyymmdd >= fromYyyymmdd && yyyymmdd <= toYyyymmdd;
+    }
+
+    /**
+     * Verifica se uma data em dias desde 01/01/1970 está no intervalo.
+     *
+     * @param epochDay Dias desde 01/01/1970
+     * @return true se a data está no intervalo
+     */
+    public boolean testEpochDay(int epochDay) {
+        return epochDay >= fromEpochDay && epochDay <= toEpochDay;
+    }
+
+    /**
+     * Filtra uma coluna de datas yyyymmdd.
+     *
+     * @param values Datas no formato yyyymmdd
+     * @return Posições das datas no intervalo
+     */
+    public BitSet filter(int[] values) {
+        return filter(values, values.length, fromYyyymmdd, toYyyymmdd);
+    }
+
+    /**
+     * Filtra uma coluna de datas em dias desde 01/01/1970.
+     *
+     * @param epochDays Dias desde 01/01/1970
+     * @return Posições das datas no intervalo
+     */
+    public BitSet filterEpochDays(int[] epochDays) {
+        return filterEpochDays(epochDays, epochDays.length);
+    }
+
+    /**
+     * Filtra as primeiras {@code size} posições de uma coluna em dias desde 01/01/1970.
+     */
+    BitSet filterEpochDays(int[] epochDays, int size) {
+        return filter(epochDays, size, fromEpochDay, toEpochDay);
+    }
+
+    /**
+     * @return Data inicial no formato yyyymmdd
+     */
+    public int getStart() {
+        return fromYyyymmdd;
+    }
+
+    /**
+     * @return Data final no formato yyyymmdd
+     */
+    public int getEnd() {
+        return toYyyymmdd;
+    }
+
+    /**
+     * Monta as palavras do BitSet sem desvios: o bit de cada posição é o
+     * sinal de (valor - início) | (fim - valor), calculado em long.
+     */
+    private static BitSet filter(int[] values, int size, int from, int to) {
+        long[] words = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            long offset = (long) values[i] - from;
+            long inside = ~(offset | ((long) to - values[i])) >>> 63;
+            words[i >>> 6] |= inside << i;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static int parse(String date) throws InvalidDocumentException {
+        int value = DateValidator.toYyyymmdd(date);
+        if (value == DateValidator.INVALID_DATE) {
+            DateValidator.validate(date);
+        }
+        return value;
+    }
+}
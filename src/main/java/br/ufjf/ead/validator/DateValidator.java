@@ -2,6 +2,9 @@ package br.ufjf.ead.validator;
 
 import br.ufjf.ead.exception.InvalidDocumentException;
 
+import java.time.Clock;
+import java.time.LocalDate;
+
 /**
  * Validador de datas com suporte a anos bissextos e múltiplos formatos.
  * 
@@ -28,6 +31,21 @@ public class DateValidator {
     private static final int MIN_YEAR = 1900;
     private static final int MAX_YEAR = 2100;
     
+    // Limite dos campos numéricos durante a conversão (acima de qualquer campo
+    // válido e de qualquer data compacta de 8 dígitos)
+    private static final int OVERFLOW = 100_000_000;
+    
+    // Dias antes do primeiro dia de cada mês (não bissexto)
+    private static final int[] DAYS_BEFORE_MONTH = {
+        0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365
+    };
+    
+    // Dias de 01/01/0001 até 01/01/1970
+    private static final int EPOCH_OFFSET = 719162;
+    
+    /** Valor retornado pelas conversões para datas inválidas. */
+    public static final int INVALID_DATE = Integer.MIN_VALUE;
+    
     /**
      * Valida uma data.
      * 
@@ -51,81 +69,311 @@ public class DateValidator {
      */
     public static void validate(String date) throws InvalidDocumentException {
         // Verifica se é nulo ou vazio
-        if (date == null || date.trim().isEmpty()) {
+        if (date == null) {
             throw new InvalidDocumentException("Data não pode ser nula ou vazia");
         }
         
-        // Remove espaços em branco
-        String cleanDate = date.trim();
-        
-        // Tenta validar com cada formato suportado
-        boolean valid = false;
-        for (String format : SUPPORTED_FORMATS) {
-            if (validateFormat(cleanDate, format)) {
-                valid = true;
-                break;
-            }
+        // Remove espaços em branco (como String.trim, sem criar uma nova String)
+        int start = 0;
+        int end = date.length();
+        while (start < end && date.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && date.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new InvalidDocumentException("Data não pode ser nula ou vazia");
         }
         
-        if (!valid) {
+        // Tenta interpretar com as ordens de campos dos formatos suportados
+        if (parse(date, start, end, 0, false) < 0) {
             throw new InvalidDocumentException("Formato de data inválido. Use um dos formatos suportados: " + 
                 String.join(", ", SUPPORTED_FORMATS));
         }
     }
     
     /**
-     * Valida uma data em um formato específico.
+     * Converte uma data em um inteiro no formato yyyymmdd.
      * 
-     * @param date Data a ser validada
-     * @param format Formato esperado
-     * @return true se a data é válida no formato especificado
+     * Aceita os mesmos formatos de {@link #validate(String)}; datas ambíguas
+     * são interpretadas na ordem dos formatos suportados (dd/MM/yyyy primeiro).
+     * 
+     * @param date Data a ser convertida
+     * @return Data no formato yyyymmdd (ex: 20260208), ou {@link #INVALID_DATE}
      */
-    private static boolean validateFormat(String date, String format) {
-        try {
-            // Remove caracteres não numéricos para extrair os componentes
-            String[] parts = date.split("[/\\-.]");
-            
-            if (parts.length != 3) {
-                return false;
+    public static int toYyyymmdd(CharSequence date) {
+        return toYyyymmdd(date, 0, false);
+    }
+    
+    /**
+     * Converte uma data em yyyymmdd com os formatos adicionais de {@link DateParser}.
+     * 
+     * @param date Data a ser convertida
+     * @param windowStart Primeiro ano da janela de anos com 2 dígitos, ou 0 para não aceitá-los
+     * @param compact true para aceitar datas sem separadores
+     * @return Data no formato yyyymmdd, ou {@link #INVALID_DATE}
+     */
+    static int toYyyymmdd(CharSequence date, int windowStart, boolean compact) {
+        if (date == null) {
+            return INVALID_DATE;
+        }
+        int start = 0;
+        int end = date.length();
+        while (start < end && date.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && date.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int value = parse(date, start, end, windowStart, compact);
+        return value < 0 ? INVALID_DATE : value;
+    }
+    
+    /**
+     * Converte os componentes de uma data em um inteiro no formato yyyymmdd.
+     * 
+     * @param year Ano
+     * @param month Mês
+     * @param day Dia
+     * @return Data no formato yyyymmdd, ou {@link #INVALID_DATE} se os componentes forem inválidos
+     */
+    public static int toYyyymmdd(int year, int month, int day) {
+        return validateDateComponents(day, month, year) ? year * 10000 + month * 100 + day : INVALID_DATE;
+    }
+    
+    /**
+     * Converte uma data na quantidade de dias desde 01/01/1970.
+     * 
+     * @param date Data a ser convertida (mesmos formatos de {@link #validate(String)})
+     * @return Dias desde 01/01/1970 (negativo antes dessa data), ou {@link #INVALID_DATE}
+     */
+    public static int toEpochDay(String date) {
+        int value = toYyyymmdd(date);
+        return value == INVALID_DATE ? INVALID_DATE : epochDay(value / 10000, value / 100 % 100, value % 100);
+    }
+    
+    /**
+     * Converte uma data yyyymmdd na quantidade de dias desde 01/01/1970.
+     * 
+     * @param yyyymmdd Data no formato yyyymmdd
+     * @return Dias desde 01/01/1970, ou {@link #INVALID_DATE} se a data for inválida
+     */
+    public static int toEpochDay(int yyyymmdd) {
+        int year = yyyymmdd / 10000;
+        int month = yyyymmdd / 100 % 100;
+        int day = yyyymmdd % 100;
+        if (yyyymmdd < 0 || !validateDateComponents(day, month, year)) {
+            return INVALID_DATE;
+        }
+        return epochDay(year, month, day);
+    }
+    
+    /**
+     * Converte a quantidade de dias desde 01/01/1970 em uma data yyyymmdd.
+     * 
+     * @param epochDay Dias desde 01/01/1970 (a partir de 01/01/0001)
+     * @return Data no formato yyyymmdd
+     * @throws IllegalArgumentException se a data for anterior ao ano 1
+     */
+    public static int fromEpochDay(int epochDay) {
+        long days = (long) epochDay + EPOCH_OFFSET;
+        if (days < 0) {
+            throw new IllegalArgumentException("Data anterior ao ano 1");
+        }
+        
+        // Estima o ano pelo ciclo de 400 anos e corrige
+        int year = (int) (days * 400 / 146097) + 1;
+        while (daysBeforeYear(year) > days) {
+            year--;
+        }
+        while (daysBeforeYear(year + 1) <= days) {
+            year++;
+        }
+        
+        int dayOfYear = (int) (days - daysBeforeYear(year));
+        int leap = isLeapYear(year) ? 1 : 0;
+        int month = 1;
+        while (dayOfYear >= DAYS_BEFORE_MONTH[month] + (month >= 2 ? leap : 0)) {
+            month++;
+        }
+        int day = dayOfYear - DAYS_BEFORE_MONTH[month - 1] - (month > 2 ? leap : 0) + 1;
+        return year * 10000 + month * 100 + day;
+    }
+    
+    /**
+     * Dias desde 01/01/1970 de uma data já validada.
+     */
+    private static int epochDay(int year, int month, int day) {
+        int dayOfYear = DAYS_BEFORE_MONTH[month - 1] + day - 1;
+        if (month > 2 && isLeapYear(year)) {
+            dayOfYear++;
+        }
+        return (int) (daysBeforeYear(year) + dayOfYear - EPOCH_OFFSET);
+    }
+    
+    /**
+     * Dias de 01/01/0001 até 01/01 do ano.
+     */
+    private static long daysBeforeYear(int year) {
+        long y = year - 1;
+        return y * 365 + y / 4 - y / 100 + y / 400;
+    }
+    
+    /**
+     * Interpreta uma data em uma única passada.
+     * 
+     * Localiza os separadores ('/', '-' ou '.', que podem ser misturados;
+     * separadores no fim são ignorados), converte os três campos numéricos
+     * (com sinal '+' opcional) e testa as ordens dos formatos suportados:
+     * dia/mês/ano, ano/mês/dia e mês/dia/ano, nessa ordem.
+     * 
+     * Os formatos adicionais só são testados quando os formatos suportados
+     * falham, portanto não mudam a interpretação de nenhuma data já aceita:
+     * com {@code windowStart}, um último campo de 2 dígitos é o ano dentro da
+     * janela (dd/MM/yy e MM/dd/yy); com {@code compact}, 8 dígitos sem
+     * separadores são testados como ddMMyyyy, yyyyMMdd e MMddyyyy e, com a
+     * janela, 6 dígitos como ddMMyy e MMddyy.
+     * 
+     * @param date Texto com a data
+     * @param start Início da data no texto
+     * @param end Fim (exclusivo) da data no texto
+     * @param windowStart Primeiro ano da janela de anos com 2 dígitos, ou 0 para não aceitá-los
+     * @param compact true para aceitar datas sem separadores
+     * @return Data no formato yyyymmdd da primeira ordem válida, ou -1 se inválida
+     */
+    private static int parse(CharSequence date, int start, int end, int windowStart, boolean compact) {
+        // Separadores no fim não formam campos
+        while (end > start && isSeparator(date.charAt(end - 1))) {
+            end--;
+        }
+        
+        int first = 0;
+        int second = 0;
+        int third = 0;
+        int field = 0;
+        int value = 0;
+        int digits = 0;
+        int lastDigits = 0;
+        boolean signed = false;
+        for (int i = start; i <= end; i++) {
+            // O fim da data fecha o último campo
+            char c = i < end ? date.charAt(i) : '/';
+            if (isSeparator(c)) {
+                if (digits == 0 || field == 3) {
+                    return -1;
+                }
+                if (field == 0) {
+                    first = value;
+                } else if (field == 1) {
+                    second = value;
+                } else {
+                    third = value;
+                }
+                // Quantidade de dígitos do último campo fechado (sem sinal)
+                lastDigits = signed ? 0 : digits;
+                field++;
+                value = 0;
+                digits = 0;
+                signed = false;
+            } else if (c == '+' && digits == 0 && !signed) {
+                signed = true;
+            } else {
+                int digit = Character.digit(c, 10);
+                if (digit < 0) {
+                    return -1;
+                }
+                // Valores grandes são inválidos em qualquer posição; satura para evitar overflow
+                value = Math.min(value * 10 + digit, OVERFLOW);
+                digits++;
             }
-            
-            int day, month, year;
-            
-            // Parseia os componentes baseado no formato
-            switch (format) {
-                case "dd/MM/yyyy":
-                case "dd-MM-yyyy":
-                case "dd.MM.yyyy":
-                    day = Integer.parseInt(parts[0]);
-                    month = Integer.parseInt(parts[1]);
-                    year = Integer.parseInt(parts[2]);
-                    break;
-                    
-                case "yyyy/MM/dd":
-                case "yyyy-MM-dd":
-                case "yyyy.MM.dd":
-                    year = Integer.parseInt(parts[0]);
-                    month = Integer.parseInt(parts[1]);
-                    day = Integer.parseInt(parts[2]);
-                    break;
-                    
-                case "MM/dd/yyyy":
-                case "MM-dd-yyyy":
-                case "MM.dd.yyyy":
-                    month = Integer.parseInt(parts[0]);
-                    day = Integer.parseInt(parts[1]);
-                    year = Integer.parseInt(parts[2]);
-                    break;
-                    
-                default:
-                    return false;
+        }
+        if (field == 1 && compact) {
+            return parseCompact(first, lastDigits, windowStart);
+        }
+        if (field != 3) {
+            return -1;
+        }
+        
+        int result = orders(first, second, third);
+        if (result < 0 && windowStart != 0 && lastDigits == 2) {
+            result = dayFirst(first, second, expandYear(third, windowStart));
+        }
+        return result;
+    }
+    
+    /**
+     * Interpreta uma data sem separadores (ddMMyyyy, yyyyMMdd, MMddyyyy, ddMMyy ou MMddyy).
+     * 
+     * @return Data no formato yyyymmdd, ou -1 se inválida
+     */
+    private static int parseCompact(int value, int digits, int windowStart) {
+        if (digits == 8) {
+            int dayMonth = value / 10000;
+            int year = value % 10000;
+            if (validateDateComponents(dayMonth / 100, dayMonth % 100, year)) {
+                return year * 10000 + dayMonth % 100 * 100 + dayMonth / 100;
             }
-            
-            return validateDateComponents(day, month, year);
-            
-        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
-            return false;
+            // yyyyMMdd já é o próprio valor
+            if (validateDateComponents(value % 100, value / 100 % 100, value / 10000)) {
+                return value;
+            }
+            if (validateDateComponents(dayMonth % 100, dayMonth / 100, year)) {
+                return year * 10000 + dayMonth;
+            }
+            return -1;
         }
+        if (digits == 6 && windowStart != 0) {
+            return dayFirst(value / 10000, value / 100 % 100, expandYear(value % 100, windowStart));
+        }
+        return -1;
+    }
+    
+    /**
+     * Testa as ordens dia/mês/ano, ano/mês/dia e mês/dia/ano, nessa ordem.
+     * 
+     * @return Data no formato yyyymmdd da primeira ordem válida, ou -1 se inválida
+     */
+    private static int orders(int first, int second, int third) {
+        if (validateDateComponents(first, second, third)) {
+            return third * 10000 + second * 100 + first;
+        }
+        if (validateDateComponents(third, second, first)) {
+            return first * 10000 + second * 100 + third;
+        }
+        if (validateDateComponents(second, first, third)) {
+            return third * 10000 + first * 100 + second;
+        }
+        return -1;
+    }
+    
+    /**
+     * Testa as ordens com o ano no último campo: dia/mês/ano e mês/dia/ano.
+     * 
+     * @return Data no formato yyyymmdd da primeira ordem válida, ou -1 se inválida
+     */
+    private static int dayFirst(int first, int second, int year) {
+        if (validateDateComponents(first, second, year)) {
+            return year * 10000 + second * 100 + first;
+        }
+        if (validateDateComponents(second, first, year)) {
+            return year * 10000 + first * 100 + second;
+        }
+        return -1;
+    }
+    
+    /**
+     * Converte um ano de 2 dígitos no ano da janela de 100 anos iniciada em windowStart.
+     */
+    private static int expandYear(int year, int windowStart) {
+        return windowStart + Math.floorMod(year - windowStart, 100);
+    }
+    
+    /**
+     * Verifica se o caractere separa os campos de uma data.
+     */
+    private static boolean isSeparator(char c) {
+        return c == '/' || c == '-' || c == '.';
     }
     
     /**
@@ -263,6 +511,104 @@ public class DateValidator {
         }
     }
     
+    /**
+     * Calcula a idade na data atual do relógio informado.
+     * 
+     * @param birthDate Data de nascimento (mesmos formatos de {@link #validate(String)})
+     * @param clock Relógio que define a data atual
+     * @return Idade em anos completos
+     * @throws InvalidDocumentException se a data for inválida ou posterior à data atual
+     * @throws IllegalArgumentException se a data atual estiver fora do intervalo de 1900 a 2100
+     */
+    public static int calculateAge(String birthDate, Clock clock) throws InvalidDocumentException {
+        return calculateAge(birthDate, today(clock));
+    }
+    
+    /**
+     * Calcula a idade em uma data de referência.
+     * 
+     * Quem nasceu em 29/02 completa anos em 01/03 nos anos não bissextos.
+     * 
+     * @param birthDate Data de nascimento (mesmos formatos de {@link #validate(String)})
+     * @param referenceYyyymmdd Data de referência no formato yyyymmdd
+     * @return Idade em anos completos
+     * @throws InvalidDocumentException se a data for inválida ou posterior à data de referência
+     * @throws IllegalArgumentException se a data de referência for inválida
+     */
+    public static int calculateAge(String birthDate, int referenceYyyymmdd) throws InvalidDocumentException {
+        checkReference(referenceYyyymmdd);
+        int birth = toYyyymmdd(birthDate);
+        if (birth == INVALID_DATE) {
+            validate(birthDate);
+        }
+        int age = age(birth, referenceYyyymmdd);
+        if (age < 0) {
+            throw new InvalidDocumentException("Data de nascimento posterior à data de referência");
+        }
+        return age;
+    }
+    
+    /**
+     * Calcula as idades de várias datas de nascimento, sem alocação por elemento.
+     * 
+     * @param birthDates Datas de nascimento no formato yyyymmdd
+     * @param referenceYyyymmdd Data de referência no formato yyyymmdd
+     * @param ages Recebe as idades, ou -1 para datas inválidas ou posteriores à referência
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes ou a data de referência for inválida
+     */
+    public static void calculateAges(int[] birthDates, int referenceYyyymmdd, int[] ages) {
+        checkReference(referenceYyyymmdd);
+        if (birthDates.length != ages.length) {
+            throw new IllegalArgumentException("Arrays de datas e idades devem ter o mesmo tamanho");
+        }
+        for (int i = 0; i < birthDates.length; i++) {
+            int birth = birthDates[i];
+            ages[i] = birth >= 0 && validateDateComponents(birth % 100, birth / 100 % 100, birth / 10000)
+                ? age(birth, referenceYyyymmdd) : -1;
+        }
+    }
+    
+    /**
+     * Calcula as idades de várias datas de nascimento na data atual do relógio.
+     * 
+     * @param birthDates Datas de nascimento no formato yyyymmdd
+     * @param clock Relógio que define a data atual
+     * @param ages Recebe as idades, ou -1 para datas inválidas ou futuras
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes ou a data atual for inválida
+     */
+    public static void calculateAges(int[] birthDates, Clock clock, int[] ages) {
+        calculateAges(birthDates, today(clock), ages);
+    }
+    
+    /**
+     * Idade entre duas datas yyyymmdd: a diferença dividida por 10000 desconta
+     * o ano em que o aniversário (mês e dia) ainda não chegou.
+     * 
+     * @return Idade, ou -1 se o nascimento for posterior à referência
+     */
+    private static int age(int birthYyyymmdd, int referenceYyyymmdd) {
+        int difference = referenceYyyymmdd - birthYyyymmdd;
+        return difference < 0 ? -1 : difference / 10000;
+    }
+    
+    /**
+     * Verifica a data de referência das idades, uma única vez por chamada.
+     */
+    private static void checkReference(int referenceYyyymmdd) {
+        if (referenceYyyymmdd < 0 || !validateDateComponents(referenceYyyymmdd % 100,
+                referenceYyyymmdd / 100 % 100, referenceYyyymmdd / 10000)) {
+            throw new IllegalArgumentException("Data de referência inválida: " + referenceYyyymmdd);
+        }
+    }
+    
+    /**
+     * Data atual do relógio no formato yyyymmdd.
+     */
+    private static int today(Clock clock) {
+        LocalDate today = LocalDate.now(clock);
+        return today.getYear() * 10000 + today.getMonthValue() * 100 + today.getDayOfMonth();
+    }
+    
     /**
      * Verifica se uma data está em um intervalo válido.
      * 
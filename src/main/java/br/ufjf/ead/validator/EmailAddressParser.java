@@ -0,0 +1,487 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+/**
+ * Parser estrito de endereços de e-mail seguindo RFC 5322 (addr-spec) e RFC 5321.
+ *
+ * Implementado como descida recursiva sobre a entrada, caractere a caractere,
+ * sem retrocesso: cada caractere é consumido uma única vez, de modo que o
+ * trabalho é linear no tamanho da entrada. O aninhamento de comentários é
+ * limitado para que entradas hostis não esgotem a pilha.
+ *
+ * Suporta local parts entre aspas com escapes, comentários e espaços (CFWS)
+ * e domínios literais [IPv4] e [IPv6:...]. Formas obsoletas (obs-*) não são aceitas.
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailAddressParser {
+
+    // Tamanho máximo de uma linha (RFC 5322, seção 2.1.1)
+    private static final int MAX_INPUT_LENGTH = 998;
+
+    // Limites da RFC 5321 (seção 4.5.3.1)
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 255;
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int MAX_ADDRESS_LENGTH = 254;
+
+    // Aninhamento máximo de comentários
+    private static final int MAX_COMMENT_DEPTH = 16;
+
+    // Caracteres especiais permitidos em atext
+    private static final String ATEXT_SPECIALS = "!#$%&'*+-/=?^_`{|}~";
+
+    private final CharSequence input;
+    private int pos;
+
+    private String localPart;
+    private String domain;
+    private boolean domainLiteral;
+
+    private EmailAddressParser(CharSequence input) {
+        this.input = input;
+    }
+
+    /**
+     * Verifica se um endereço é válido no modo estrito.
+     *
+     * @param address Endereço a ser verificado
+     * @return true se o endereço é válido, false caso contrário
+     */
+    public static boolean isValid(CharSequence address) {
+        try {
+            parse(address);
+            return true;
+        } catch (InvalidDocumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Analisa um endereço no modo estrito.
+     *
+     * @param address Endereço a ser analisado
+     * @return Parser com o local part e o domínio reconhecidos
+     * @throws InvalidDocumentException se o endereço for inválido
+     */
+    public static EmailAddressParser parse(CharSequence address) throws InvalidDocumentException {
+        // Verifica se é nulo ou vazio
+        if (address == null || address.length() == 0) {
+            throw new InvalidDocumentException("E-mail não pode ser nulo ou vazio");
+        }
+
+        // Limita o trabalho antes de iniciar a análise
+        if (address.length() > MAX_INPUT_LENGTH) {
+            throw new InvalidDocumentException("E-mail muito longo");
+        }
+
+        EmailAddressParser parser = new EmailAddressParser(address);
+        parser.parseAddrSpec();
+        return parser;
+    }
+
+    /**
+     * Obtém o local part reconhecido, sem comentários (aspas preservadas).
+     *
+     * @return Local part do endereço
+     */
+    public String getLocalPart() {
+        return localPart;
+    }
+
+    /**
+     * Obtém o domínio reconhecido, sem comentários (colchetes preservados em literais).
+     *
+     * @return Domínio do endereço
+     */
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * Indica se o domínio é um literal de endereço IP.
+     *
+     * @return true se o domínio for [IPv4] ou [IPv6:...]
+     */
+    public boolean isDomainLiteral() {
+        return domainLiteral;
+    }
+
+    /**
+     * addr-spec = local-part "@" domain
+     */
+    private void parseAddrSpec() throws InvalidDocumentException {
+        skipCfws();
+        int localStart = pos;
+        if (peek() == '"') {
+            parseQuotedString();
+        } else {
+            parseDotAtomText();
+        }
+        int localEnd = pos;
+        skipCfws();
+
+        if (peek() != '@') {
+            throw error("E-mail deve conter '@' após o local part");
+        }
+        pos++;
+
+        skipCfws();
+        int domainStart = pos;
+        if (peek() == '[') {
+            parseDomainLiteral();
+            domainLiteral = true;
+        } else {
+            parseDomainName();
+        }
+        int domainEnd = pos;
+        skipCfws();
+
+        if (pos != input.length()) {
+            throw error("Caractere inesperado");
+        }
+
+        int localLength = localEnd - localStart;
+        int domainLength = domainEnd - domainStart;
+        if (localLength > MAX_LOCAL_PART_LENGTH) {
+            throw new InvalidDocumentException("Local part do e-mail muito longo");
+        }
+        if (domainLength > MAX_DOMAIN_LENGTH || localLength + 1 + domainLength > MAX_ADDRESS_LENGTH) {
+            throw new InvalidDocumentException("E-mail muito longo");
+        }
+
+        localPart = input.subSequence(localStart, localEnd).toString();
+        domain = input.subSequence(domainStart, domainEnd).toString();
+    }
+
+    /**
+     * dot-atom-text = 1*atext *("." 1*atext)
+     */
+    private void parseDotAtomText() throws InvalidDocumentException {
+        do {
+            int start = pos;
+            while (pos < input.length() && isAtext(input.charAt(pos))) {
+                pos++;
+            }
+            if (pos == start) {
+                throw error("Local part inválido");
+            }
+        } while (consume('.'));
+    }
+
+    /**
+     * quoted-string = DQUOTE *([FWS] qcontent) [FWS] DQUOTE
+     */
+    private void parseQuotedString() throws InvalidDocumentException {
+        pos++; // DQUOTE de abertura
+        while (true) {
+            if (pos >= input.length()) {
+                throw error("Aspas não fechadas no local part");
+            }
+            char c = input.charAt(pos);
+            if (c == '"') {
+                pos++;
+                return;
+            } else if (c == '\\') {
+                parseQuotedPair();
+            } else if (isQtext(c)) {
+                pos++;
+            } else if (!skipFws()) {
+                throw error("Caractere inválido entre aspas");
+            }
+        }
+    }
+
+    /**
+     * quoted-pair = "\" (VCHAR / WSP)
+     */
+    private void parseQuotedPair() throws InvalidDocumentException {
+        pos++; // Barra invertida
+        if (pos >= input.length()) {
+            throw error("Escape incompleto");
+        }
+        char c = input.charAt(pos);
+        if (!isVchar(c) && !isWsp(c)) {
+            throw error("Escape inválido");
+        }
+        pos++;
+    }
+
+    /**
+     * Domain = sub-domain *("." sub-domain) (RFC 5321)
+     * sub-domain = Let-dig [Ldh-str]
+     */
+    private void parseDomainName() throws InvalidDocumentException {
+        do {
+            int start = pos;
+            while (pos < input.length() && isLdh(input.charAt(pos))) {
+                pos++;
+            }
+            int length = pos - start;
+            if (length == 0) {
+                throw error("Domínio inválido");
+            }
+            if (length > MAX_LABEL_LENGTH) {
+                throw error("Rótulo do domínio muito longo");
+            }
+            if (input.charAt(start) == '-' || input.charAt(pos - 1) == '-') {
+                throw error("Rótulo do domínio não pode começar ou terminar com hífen");
+            }
+        } while (consume('.'));
+    }
+
+    /**
+     * address-literal = "[" ( IPv4-address-literal / IPv6-address-literal ) "]"
+     */
+    private void parseDomainLiteral() throws InvalidDocumentException {
+        pos++; // Colchete de abertura
+        int start = pos;
+        while (pos < input.length() && input.charAt(pos) != ']') {
+            if (!isDtext(input.charAt(pos))) {
+                throw error("Caractere inválido no domínio literal");
+            }
+            pos++;
+        }
+        if (pos >= input.length()) {
+            throw error("Domínio literal não fechado");
+        }
+        int end = pos;
+        pos++; // Colchete de fechamento
+
+        if (regionMatches(start, end, "IPv6:")) {
+            if (!isIpv6(start + 5, end)) {
+                throw new InvalidDocumentException("Endereço IPv6 inválido no domínio literal");
+            }
+        } else if (!isIpv4(start, end)) {
+            throw new InvalidDocumentException("Endereço IPv4 inválido no domínio literal");
+        }
+    }
+
+    /**
+     * Consome espaços e comentários: CFWS = (1*([FWS] comment) [FWS]) / FWS
+     */
+    private void skipCfws() throws InvalidDocumentException {
+        while (pos < input.length()) {
+            if (input.charAt(pos) == '(') {
+                parseComment(1);
+            } else if (!skipFws()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * comment = "(" *([FWS] ccontent) [FWS] ")"
+     * ccontent = ctext / quoted-pair / comment
+     */
+    private void parseComment(int depth) throws InvalidDocumentException {
+        if (depth > MAX_COMMENT_DEPTH) {
+            throw error("Comentários aninhados em excesso");
+        }
+        pos++; // Parêntese de abertura
+        while (true) {
+            if (pos >= input.length()) {
+                throw error("Comentário não fechado");
+            }
+            char c = input.charAt(pos);
+            if (c == ')') {
+                pos++;
+                return;
+            } else if (c == '(') {
+                parseComment(depth + 1);
+            } else if (c == '\\') {
+                parseQuotedPair();
+            } else if (isCtext(c)) {
+                pos++;
+            } else if (!skipFws()) {
+                throw error("Caractere inválido em comentário");
+            }
+        }
+    }
+
+    /**
+     * Consome espaços dobrados: FWS = ([*WSP CRLF] 1*WSP)
+     *
+     * @return true se algum espaço foi consumido
+     */
+    private boolean skipFws() throws InvalidDocumentException {
+        int start = pos;
+        while (pos < input.length()) {
+            char c = input.charAt(pos);
+            if (isWsp(c)) {
+                pos++;
+            } else if (c == '\r' && pos + 1 < input.length() && input.charAt(pos + 1) == '\n') {
+                if (pos + 2 >= input.length() || !isWsp(input.charAt(pos + 2))) {
+                    throw error("Quebra de linha deve ser seguida de espaço");
+                }
+                pos += 3;
+            } else {
+                break;
+            }
+        }
+        return pos > start;
+    }
+
+    /**
+     * Verifica um endereço IPv4 em notação decimal (Snum 3("." Snum)).
+     */
+    private boolean isIpv4(int start, int end) {
+        int octets = 0;
+        int i = start;
+        while (true) {
+            int value = 0;
+            int digits = 0;
+            while (i < end && isDigit(input.charAt(i)) && digits < 3) {
+                value = value * 10 + (input.charAt(i) - '0');
+                digits++;
+                i++;
+            }
+            if (digits == 0 || value > 255) {
+                return false;
+            }
+            octets++;
+            if (i == end) {
+                return octets == 4;
+            }
+            if (input.charAt(i) != '.' || octets == 4) {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Verifica um endereço IPv6 (formas completa, comprimida e com IPv4 embutido).
+     */
+    private boolean isIpv6(int start, int end) {
+        int groups = 0;
+        boolean compressed = false;
+        int i = start;
+
+        if (regionMatches(i, end, "::")) {
+            compressed = true;
+            i += 2;
+            if (i == end) {
+                return true;
+            }
+        }
+
+        while (true) {
+            // Últimos 32 bits podem ser um IPv4
+            int dot = indexOf('.', i, end);
+            if (dot != -1 && indexOf(':', i, end) == -1) {
+                if (!isIpv4(i, end)) {
+                    return false;
+                }
+                groups += 2;
+                break;
+            }
+
+            int digits = 0;
+            while (i < end && isHexDigit(input.charAt(i)) && digits < 4) {
+                digits++;
+                i++;
+            }
+            if (digits == 0 || ++groups > 8) {
+                return false;
+            }
+            if (i == end) {
+                break;
+            }
+            if (input.charAt(i) != ':') {
+                return false;
+            }
+            i++;
+            if (i < end && input.charAt(i) == ':') {
+                if (compressed) {
+                    return false; // Apenas um "::" é permitido
+                }
+                compressed = true;
+                i++;
+                if (i == end) {
+                    break;
+                }
+            } else if (i == end) {
+                return false;
+            }
+        }
+
+        // "::" representa pelo menos 2 grupos (RFC 5321, seção 4.1.3)
+        return compressed ? groups <= 6 : groups == 8;
+    }
+
+    private int indexOf(char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != Character.toLowerCase(prefix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean consume(char c) {
+        if (pos < input.length() && input.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private char peek() {
+        return pos < input.length() ? input.charAt(pos) : 0;
+    }
+
+    private InvalidDocumentException error(String message) {
+        return new InvalidDocumentException(message + " (posição " + pos + ")");
+    }
+
+    private static boolean isAtext(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c)
+            || ATEXT_SPECIALS.indexOf(c) != -1;
+    }
+
+    private static boolean isLdh(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '-';
+    }
+
+    private static boolean isQtext(char c) {
+        return c == 33 || (c >= 35 && c <= 91) || (c >= 93 && c <= 126);
+    }
+
+    private static boolean isCtext(char c) {
+        return (c >= 33 && c <= 39) || (c >= 42 && c <= 91) || (c >= 93 && c <= 126);
+    }
+
+    private static boolean isDtext(char c) {
+        return (c >= 33 && c <= 90) || (c >= 94 && c <= 126);
+    }
+
+    private static boolean isVchar(char c) {
+        return c >= 33 && c <= 126;
+    }
+
+    private static boolean isWsp(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
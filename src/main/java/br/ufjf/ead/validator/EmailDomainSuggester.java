@@ -0,0 +1,413 @@
+package br.ufjf.ead.validator;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Sugestão de correção para domínios de e-mail digitados com erro.
+ *
+ * Utiliza um índice de deleções no estilo SymSpell: cada domínio do dicionário
+ * é indexado por todas as variantes obtidas removendo até dois caracteres.
+ * Na consulta, as deleções do domínio digitado são procuradas no índice e os
+ * candidatos encontrados são confirmados com a distância de edição
+ * (Damerau-Levenshtein restrita), sem percorrer o dicionário inteiro.
+ *
+ * As variantes não são materializadas como Strings: cada uma é representada
+ * pelo hash polinomial obtido a partir dos hashes de prefixo da palavra, e o
+ * índice é uma tabela de endereçamento aberto sobre arrays primitivos.
+ * Colisões de hash apenas geram candidatos extras, descartados na confirmação.
+ * Todos os candidatos são confirmados, sem limite de quantidade, e a consulta
+ * reutiliza áreas de trabalho por thread em vez de alocar arrays.
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailDomainSuggester {
+
+    // Distância de edição máxima para sugerir um domínio
+    private static final int MAX_EDIT_DISTANCE = 2;
+
+    // Base do hash polinomial (ímpar, aritmética módulo 2^64)
+    private static final long HASH_BASE = 0x100000001B3L;
+
+    // Quantidade máxima de variantes indexadas (tabela de até 2^30 posições)
+    private static final long MAX_VARIANTS = 1 << 28;
+
+    // Domínios populares, em ordem de preferência para desempate
+    private static final String[] POPULAR_DOMAINS = {
+        "gmail.com", "hotmail.com", "yahoo.com.br", "outlook.com", "yahoo.com",
+        "hotmail.com.br", "outlook.com.br", "live.com", "icloud.com", "bol.com.br",
+        "uol.com.br", "terra.com.br", "ig.com.br", "globo.com", "msn.com",
+        "globomail.com", "r7.com", "live.com.br", "me.com", "protonmail.com",
+        "aol.com", "gmx.com", "zoho.com", "yandex.com", "mail.com"
+    };
+
+    private static final EmailDomainSuggester DEFAULT = new EmailDomainSuggester(POPULAR_DOMAINS);
+
+    private final String[] domains;
+    private final int maxLength;
+
+    // Potências da base do hash até o maior comprimento consultável
+    private final long[] powers;
+
+    // Tabela de hash: chave da variante e início da lista de domínios
+    private final long[] keys;
+    private final int[] heads;
+    private final int mask;
+
+    // Listas encadeadas de domínios por variante
+    private final int[] postingIds;
+    private final int[] postingNext;
+    private int postingCount;
+
+    private final ThreadLocal<Workspace> workspaces;
+
+    /**
+     * Arrays reutilizados pelas consultas de uma thread.
+     */
+    private static final class Workspace {
+
+        final long[] prefix;
+
+        // Consulta que confirmou cada domínio por último (evita repetições)
+        final int[] visited;
+        int query;
+
+        // Linhas da distância de edição
+        final int[] previous2;
+        final int[] previous;
+        final int[] current;
+
+        // Melhor domínio da consulta atual
+        int bestId;
+        int bestDistance;
+
+        Workspace(int maxLength, int domainCount) {
+            this.prefix = new long[maxLength + MAX_EDIT_DISTANCE + 1];
+            this.visited = new int[domainCount];
+            this.previous2 = new int[maxLength + 1];
+            this.previous = new int[maxLength + 1];
+            this.current = new int[maxLength + 1];
+        }
+
+        /**
+         * Inicia uma consulta.
+         */
+        void begin() {
+            if (++query == 0) {
+                Arrays.fill(visited, 0);
+                query = 1;
+            }
+            bestId = -1;
+            bestDistance = MAX_EDIT_DISTANCE + 1;
+        }
+    }
+
+    /**
+     * Cria um índice de sugestão para os domínios informados.
+     *
+     * @param domains Domínios do dicionário, em ordem de preferência
+     * @throws IllegalArgumentException se o dicionário gerar variantes demais para o índice
+     */
+    public EmailDomainSuggester(String... domains) {
+        this.domains = new String[domains.length];
+
+        int maxLength = 0;
+        long variantCount = 0;
+        for (int id = 0; id < domains.length; id++) {
+            this.domains[id] = domains[id].trim().toLowerCase();
+            int length = this.domains[id].length();
+            maxLength = Math.max(maxLength, length);
+            variantCount += 1 + length + (long) length * (length - 1) / 2;
+        }
+
+        if (variantCount > MAX_VARIANTS) {
+            throw new IllegalArgumentException("Dicionário muito grande: " + variantCount
+                + " variantes (máximo " + MAX_VARIANTS + ")");
+        }
+
+        // Fator de carga máximo de 1/2 na tabela de variantes
+        int capacity = (int) Long.highestOneBit(variantCount * 2 | 1) << 1;
+        this.keys = new long[capacity];
+        this.heads = new int[capacity];
+        this.mask = capacity - 1;
+        this.postingIds = new int[(int) variantCount];
+        this.postingNext = new int[postingIds.length];
+        this.maxLength = maxLength;
+        this.powers = powers(maxLength + MAX_EDIT_DISTANCE);
+        this.workspaces = ThreadLocal.withInitial(() -> new Workspace(this.maxLength, this.domains.length));
+
+        long[] prefix = new long[maxLength + 1];
+        for (int id = 0; id < this.domains.length; id++) {
+            String domain = this.domains[id];
+            int length = prefixHashes(domain, prefix);
+
+            addPosting(mix(prefix[length], length), id);
+            for (int i = 0; i < length; i++) {
+                addPosting(deleteHash(prefix, powers, length, i), id);
+                for (int j = i + 1; j < length; j++) {
+                    addPosting(deleteHash(prefix, powers, length, i, j), id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cria um índice de sugestão para os domínios informados.
+     *
+     * @param domains Domínios do dicionário, em ordem de preferência
+     * @throws IllegalArgumentException se o dicionário gerar variantes demais para o índice
+     */
+    public EmailDomainSuggester(Collection<String> domains) {
+        this(domains.toArray(new String[0]));
+    }
+
+    /**
+     * Obtém o índice com os domínios populares pré-carregados.
+     *
+     * @return Índice padrão de sugestão
+     */
+    public static EmailDomainSuggester getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Sugere o domínio popular mais próximo para um domínio digitado.
+     *
+     * @param domain Domínio digitado
+     * @return Domínio sugerido, ou null se o domínio já for conhecido ou não houver sugestão
+     */
+    public String suggestDomain(String domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        String cleanDomain = domain.trim().toLowerCase();
+        int length = cleanDomain.length();
+        // Domínios mais longos estão a mais de MAX_EDIT_DISTANCE de todo o dicionário
+        if (length == 0 || length > maxLength + MAX_EDIT_DISTANCE) {
+            return null;
+        }
+
+        Workspace workspace = workspaces.get();
+        long[] prefix = workspace.prefix;
+        prefixHashes(cleanDomain, prefix);
+        workspace.begin();
+
+        if (!confirm(mix(prefix[length], length), cleanDomain, workspace)) {
+            return null; // Domínio já conhecido
+        }
+        for (int i = 0; i < length; i++) {
+            if (!confirm(deleteHash(prefix, powers, length, i), cleanDomain, workspace)) {
+                return null;
+            }
+            for (int j = i + 1; j < length; j++) {
+                if (!confirm(deleteHash(prefix, powers, length, i, j), cleanDomain, workspace)) {
+                    return null;
+                }
+            }
+        }
+
+        return workspace.bestId == -1 ? null : domains[workspace.bestId];
+    }
+
+    /**
+     * Sugere a correção de um e-mail cujo domínio parece ter sido digitado com erro.
+     *
+     * @param email E-mail digitado
+     * @return E-mail com o domínio corrigido, ou null se não houver sugestão
+     */
+    public String suggest(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        String cleanEmail = email.trim();
+        int atIndex = cleanEmail.lastIndexOf('@');
+        if (atIndex <= 0 || atIndex == cleanEmail.length() - 1) {
+            return null;
+        }
+
+        String domain = suggestDomain(cleanEmail.substring(atIndex + 1));
+        if (domain == null) {
+            return null;
+        }
+
+        return cleanEmail.substring(0, atIndex + 1) + domain;
+    }
+
+    /**
+     * Adiciona um domínio à lista de uma variante, ignorando repetições.
+     *
+     * @param key Hash da variante
+     * @param id Identificador do domínio
+     */
+    private void addPosting(long key, int id) {
+        int slot = findSlot(key);
+        int head = heads[slot];
+        if (head != 0 && postingIds[head - 1] == id) {
+            return; // Variante repetida do mesmo domínio
+        }
+
+        keys[slot] = key;
+        postingIds[postingCount] = id;
+        postingNext[postingCount] = head;
+        heads[slot] = ++postingCount;
+    }
+
+    /**
+     * Confirma com a distância de edição os domínios associados a uma variante
+     * ainda não confirmados na consulta, atualizando o melhor domínio.
+     *
+     * @param key Hash da variante
+     * @param word Domínio digitado
+     * @param workspace Área de trabalho da consulta
+     * @return false se o domínio digitado estiver no dicionário
+     */
+    private boolean confirm(long key, String word, Workspace workspace) {
+        for (int posting = heads[findSlot(key)]; posting != 0; posting = postingNext[posting - 1]) {
+            int id = postingIds[posting - 1];
+            if (workspace.visited[id] == workspace.query) {
+                continue;
+            }
+            workspace.visited[id] = workspace.query;
+
+            int limit = Math.min(workspace.bestDistance, MAX_EDIT_DISTANCE) + 1;
+            int distance = editDistance(word, domains[id], limit, workspace);
+            if (distance == 0) {
+                return false;
+            }
+            if (distance > MAX_EDIT_DISTANCE) {
+                continue;
+            }
+            if (distance < workspace.bestDistance || (distance == workspace.bestDistance && id < workspace.bestId)) {
+                workspace.bestDistance = distance;
+                workspace.bestId = id;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Localiza a posição de uma chave na tabela (ou a posição livre para ela).
+     *
+     * @param key Hash da variante
+     * @return Índice da posição na tabela
+     */
+    private int findSlot(long key) {
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        while (heads[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Calcula as potências da base do hash.
+     *
+     * @param length Maior expoente necessário
+     * @return Array com as potências de 0 até {@code length}
+     */
+    private static long[] powers(int length) {
+        long[] powers = new long[length + 1];
+        powers[0] = 1;
+        for (int i = 1; i <= length; i++) {
+            powers[i] = powers[i - 1] * HASH_BASE;
+        }
+        return powers;
+    }
+
+    /**
+     * Calcula os hashes de prefixo de uma palavra.
+     *
+     * @param word Palavra
+     * @param prefix Array que recebe os hashes (tamanho mínimo: comprimento + 1)
+     * @return Comprimento da palavra
+     */
+    private static int prefixHashes(String word, long[] prefix) {
+        prefix[0] = 0;
+        for (int i = 0; i < word.length(); i++) {
+            prefix[i + 1] = prefix[i] * HASH_BASE + word.charAt(i);
+        }
+        return word.length();
+    }
+
+    /**
+     * Hash do trecho [from, to) de uma palavra.
+     */
+    private static long range(long[] prefix, long[] powers, int from, int to) {
+        return prefix[to] - prefix[from] * powers[to - from];
+    }
+
+    /**
+     * Hash da palavra sem o caractere na posição {@code i}.
+     */
+    private static long deleteHash(long[] prefix, long[] powers, int length, int i) {
+        long hash = range(prefix, powers, 0, i) * powers[length - i - 1] + range(prefix, powers, i + 1, length);
+        return mix(hash, length - 1);
+    }
+
+    /**
+     * Hash da palavra sem os caracteres nas posições {@code i} e {@code j} (i &lt; j).
+     */
+    private static long deleteHash(long[] prefix, long[] powers, int length, int i, int j) {
+        long hash = range(prefix, powers, 0, i) * powers[j - i - 1] + range(prefix, powers, i + 1, j);
+        hash = hash * powers[length - j - 1] + range(prefix, powers, j + 1, length);
+        return mix(hash, length - 2);
+    }
+
+    /**
+     * Combina o hash com o comprimento e espalha os bits.
+     */
+    private static long mix(long hash, int length) {
+        long h = (hash + length) * 0xFF51AFD7ED558CCDL;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * Calcula a distância de Damerau-Levenshtein restrita (transposições adjacentes).
+     *
+     * @param a Primeira palavra
+     * @param b Segunda palavra
+     * @param limit Distância a partir da qual o cálculo pode ser interrompido
+     * @param workspace Área de trabalho com as linhas (tamanho mínimo: comprimento de b + 1)
+     * @return Distância de edição, ou {@code limit} se ela for maior ou igual ao limite
+     */
+    private static int editDistance(String a, String b, int limit, Workspace workspace) {
+        if (Math.abs(a.length() - b.length()) >= limit) {
+            return limit;
+        }
+
+        int[] previous2 = workspace.previous2;
+        int[] previous = workspace.previous;
+        int[] current = workspace.current;
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        int previousRowMin = 0;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            // Transposições olham duas linhas para trás
+            if (rowMin >= limit && previousRowMin >= limit - 1) {
+                return limit;
+            }
+            previousRowMin = rowMin;
+            int[] swap = previous2;
+            previous2 = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[b.length()], limit);
+    }
+}
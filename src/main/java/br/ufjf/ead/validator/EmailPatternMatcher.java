@@ -0,0 +1,245 @@
+package br.ufjf.ead.validator;
+
+import java.util.Arrays;
+
+/**
+ * Detecção de contas de função e padrões suspeitos no local part de e-mails.
+ *
+ * Os padrões são compilados em um autômato de Aho-Corasick representado como
+ * uma tabela de transições determinística sobre um alfabeto reduzido, de modo
+ * que cada caractere do local part custa uma única consulta à tabela. Cada
+ * padrão está associado a um conjunto de flags, e o resultado da varredura é
+ * o OU de todas as flags dos padrões encontrados.
+ *
+ * Os padrões não diferenciam maiúsculas de minúsculas. Os caracteres '^' e '$'
+ * ancoram o padrão no início e no fim do local part (ex: "^admin$" só
+ * reconhece exatamente "admin", enquanto "^noreply" reconhece "noreply.loja").
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailPatternMatcher {
+
+    /** Conta de função (admin@, contato@, financeiro@...). */
+    public static final int ROLE_ACCOUNT = 1;
+
+    /** Endereço que não recebe respostas (noreply@, naoresponda@...). */
+    public static final int NO_REPLY = 2;
+
+    /** Padrão associado a armadilhas de spam. */
+    public static final int SPAM_TRAP = 4;
+
+    // Alfabeto reduzido: outros, letras, dígitos, símbolos do local part e âncoras
+    private static final int OTHER = 0;
+    private static final int FIRST_LETTER = 1;
+    private static final int FIRST_DIGIT = FIRST_LETTER + 26;
+    private static final String SYMBOLS = "._-+%";
+    private static final int FIRST_SYMBOL = FIRST_DIGIT + 10;
+    private static final int START = FIRST_SYMBOL + SYMBOLS.length();
+    private static final int END = START + 1;
+    private static final int ALPHABET_SIZE = END + 1;
+
+    private static final byte[] CHAR_CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASSES[c] = (byte) (FIRST_LETTER + (c - 'a'));
+            CHAR_CLASSES[Character.toUpperCase(c)] = (byte) (FIRST_LETTER + (c - 'a'));
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASSES[c] = (byte) (FIRST_DIGIT + (c - '0'));
+        }
+        for (int i = 0; i < SYMBOLS.length(); i++) {
+            CHAR_CLASSES[SYMBOLS.charAt(i)] = (byte) (FIRST_SYMBOL + i);
+        }
+    }
+
+    // Contas de função conhecidas (local part completo)
+    private static final String[] ROLE_ACCOUNTS = {
+        "admin", "administrador", "administrator", "root", "webmaster", "postmaster",
+        "hostmaster", "contato", "contact", "financeiro", "comercial", "vendas",
+        "sales", "suporte", "support", "atendimento", "sac", "info", "rh",
+        "faturamento", "compras", "marketing", "ouvidoria", "diretoria", "secretaria"
+    };
+
+    // Prefixos de endereços que não recebem respostas
+    private static final String[] NO_REPLY_PREFIXES = {
+        "noreply", "no-reply", "no_reply", "donotreply", "do-not-reply",
+        "naoresponda", "nao-responda", "nao_responda", "naoresponder"
+    };
+
+    // Trechos associados a armadilhas de spam
+    private static final String[] SPAM_TRAP_PATTERNS = {
+        "spamtrap", "spam-trap", "spam_trap", "honeypot", "blackhole", "abuse"
+    };
+
+    private static final EmailPatternMatcher DEFAULT = createDefault();
+
+    private final int[] transitions;
+    private final int[] outputs;
+
+    /**
+     * Compila os padrões informados em um autômato.
+     *
+     * @param patterns Padrões a serem reconhecidos ('^' e '$' como âncoras)
+     * @param flags Flags associadas a cada padrão
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes ou um padrão for inválido
+     */
+    public EmailPatternMatcher(String[] patterns, int[] flags) {
+        if (patterns.length != flags.length) {
+            throw new IllegalArgumentException("Cada padrão deve ter suas flags");
+        }
+
+        // Constrói a trie
+        int capacity = 1;
+        for (String pattern : patterns) {
+            capacity += pattern.length();
+        }
+        int[] trie = new int[capacity * ALPHABET_SIZE];
+        int[] output = new int[capacity];
+        int states = 1;
+
+        for (int p = 0; p < patterns.length; p++) {
+            String pattern = patterns[p];
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Padrão vazio");
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int symbol = patternSymbol(pattern, i);
+                int next = trie[state * ALPHABET_SIZE + symbol];
+                if (next == 0) {
+                    next = states++;
+                    trie[state * ALPHABET_SIZE + symbol] = next;
+                }
+                state = next;
+            }
+            output[state] |= flags[p];
+        }
+
+        // Calcula os links de falha em largura e completa a tabela de transições
+        int[] fail = new int[states];
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+            int child = trie[symbol];
+            if (child != 0) {
+                queue[tail++] = child;
+            }
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            output[state] |= output[fail[state]];
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                int index = state * ALPHABET_SIZE + symbol;
+                int child = trie[index];
+                if (child != 0) {
+                    fail[child] = trie[fail[state] * ALPHABET_SIZE + symbol];
+                    queue[tail++] = child;
+                } else {
+                    trie[index] = trie[fail[state] * ALPHABET_SIZE + symbol];
+                }
+            }
+        }
+
+        this.transitions = Arrays.copyOf(trie, states * ALPHABET_SIZE);
+        this.outputs = Arrays.copyOf(output, states);
+    }
+
+    /**
+     * Obtém o classificador com os padrões padrão (contas de função, noreply e spam traps).
+     *
+     * @return Classificador padrão
+     */
+    public static EmailPatternMatcher getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Classifica um local part.
+     *
+     * @param localPart Local part do e-mail (sem '@' e domínio)
+     * @return OU das flags dos padrões encontrados, ou 0 se nenhum padrão for encontrado
+     */
+    public int match(CharSequence localPart) {
+        if (localPart == null) {
+            return 0;
+        }
+        int state = start();
+        int flags = outputs[state];
+        for (int i = 0; i < localPart.length(); i++) {
+            state = next(state, localPart.charAt(i));
+            flags |= outputs[state];
+        }
+        return flags | finish(state);
+    }
+
+    /**
+     * Estado inicial da varredura (após a âncora de início).
+     */
+    int start() {
+        return transitions[START];
+    }
+
+    /**
+     * Avança o autômato com um caractere.
+     */
+    int next(int state, char c) {
+        int symbol = c < 128 ? CHAR_CLASSES[c] : OTHER;
+        return transitions[state * ALPHABET_SIZE + symbol];
+    }
+
+    /**
+     * Flags dos padrões que terminam no estado informado.
+     */
+    int flags(int state) {
+        return outputs[state];
+    }
+
+    /**
+     * Flags dos padrões que terminam na âncora de fim.
+     */
+    int finish(int state) {
+        return outputs[transitions[state * ALPHABET_SIZE + END]];
+    }
+
+    /**
+     * Converte um caractere de padrão para o alfabeto reduzido.
+     */
+    private static int patternSymbol(String pattern, int index) {
+        char c = pattern.charAt(index);
+        if (c == '^' && index == 0) {
+            return START;
+        }
+        if (c == '$' && index == pattern.length() - 1) {
+            return END;
+        }
+        if (c >= 128 || CHAR_CLASSES[c] == OTHER) {
+            throw new IllegalArgumentException("Caractere não suportado no padrão: " + pattern);
+        }
+        return CHAR_CLASSES[c];
+    }
+
+    /**
+     * Cria o classificador com os padrões padrão.
+     */
+    private static EmailPatternMatcher createDefault() {
+        int total = ROLE_ACCOUNTS.length + NO_REPLY_PREFIXES.length + SPAM_TRAP_PATTERNS.length;
+        String[] patterns = new String[total];
+        int[] flags = new int[total];
+        int i = 0;
+        for (String role : ROLE_ACCOUNTS) {
+            patterns[i] = "^" + role + "$";
+            flags[i++] = ROLE_ACCOUNT;
+        }
+        for (String prefix : NO_REPLY_PREFIXES) {
+            patterns[i] = "^" + prefix;
+            flags[i++] = NO_REPLY;
+        }
+        for (String pattern : SPAM_TRAP_PATTERNS) {
+            patterns[i] = pattern;
+            flags[i++] = SPAM_TRAP;
+        }
+        return new EmailPatternMatcher(patterns, flags);
+    }
+}
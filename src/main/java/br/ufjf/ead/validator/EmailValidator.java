@@ -2,6 +2,9 @@ package br.ufjf.ead.validator;
 
 import br.ufjf.ead.exception.InvalidDocumentException;
 
+import java.net.IDN;
+import java.util.regex.Pattern;
+
 /**
  * Validador de e-mails seguindo RFC 5322.
  * 
@@ -16,6 +19,14 @@ public class EmailValidator {
     private static final String EMAIL_REGEX = 
         "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
     
+    // Caracteres ASCII permitidos no local part
+    private static final String LOCAL_PART_ASCII_CHARS =
+        "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789._%+-";
+    
+    // Domínio em ASCII após conversão punycode (TLD pode ser um A-label)
+    private static final Pattern DOMAIN_PATTERN =
+        Pattern.compile("^[a-zA-Z0-9.-]+\\.([a-zA-Z]{2,}|xn--[a-zA-Z0-9-]+)$");
+    
     // Domínios conhecidos como inválidos ou suspeitos
     private static final String[] INVALID_DOMAINS = {
         "tempmail.org", "10minutemail.com", "guerrillamail.com"
@@ -89,7 +100,249 @@ public class EmailValidator {
         }
         
         // Verifica domínio
-        String domain = cleanEmail.substring(atIndex + 1);
+        validateDomain(cleanEmail.substring(atIndex + 1));
+    }
+    
+    /**
+     * Valida um e-mail e classifica o local part com os padrões padrão.
+     * 
+     * @param email E-mail a ser classificado
+     * @return Flags de {@link EmailPatternMatcher} encontradas, ou -1 se o e-mail for inválido
+     */
+    public static int classify(String email) {
+        return classify(email, EmailPatternMatcher.getDefault());
+    }
+    
+    /**
+     * Valida um e-mail e classifica o local part em uma única varredura.
+     * 
+     * Aceita exatamente os mesmos endereços que {@link #isValid(String)}, mas
+     * verifica a sintaxe do local part no mesmo laço que avança o autômato de
+     * padrões, sem regex e sem criar Strings intermediárias.
+     * 
+     * @param email E-mail a ser classificado
+     * @param matcher Padrões a serem procurados no local part
+     * @return Flags dos padrões encontrados, ou -1 se o e-mail for inválido
+     */
+    public static int classify(String email, EmailPatternMatcher matcher) {
+        if (email == null) {
+            return -1;
+        }
+        
+        String cleanEmail = email.trim();
+        int length = cleanEmail.length();
+        if (length < 5 || length > 254) {
+            return -1;
+        }
+        
+        int atIndex = cleanEmail.indexOf('@');
+        if (atIndex <= 0 || atIndex == length - 1 || cleanEmail.indexOf('@', atIndex + 1) != -1) {
+            return -1;
+        }
+        
+        // Local part: sintaxe e autômato na mesma varredura
+        int state = matcher.start();
+        int flags = matcher.flags(state);
+        boolean previousDot = true; // Local part não pode começar com ponto
+        for (int i = 0; i < atIndex; i++) {
+            char c = cleanEmail.charAt(i);
+            if (c == '.') {
+                if (previousDot) {
+                    return -1;
+                }
+                previousDot = true;
+            } else if (c < 0x80 && LOCAL_PART_ASCII_CHARS.indexOf(c) != -1) {
+                previousDot = false;
+            } else {
+                return -1;
+            }
+            state = matcher.next(state, c);
+            flags |= matcher.flags(state);
+        }
+        if (previousDot) {
+            return -1; // Local part não pode terminar com ponto
+        }
+        
+        if (!isValidAsciiDomain(cleanEmail, atIndex + 1)) {
+            return -1;
+        }
+        
+        return flags | matcher.finish(state);
+    }
+    
+    /**
+     * Verifica o domínio com as mesmas regras de {@link #validate(String)}, sem regex.
+     * 
+     * @param email E-mail sem espaços nas extremidades
+     * @param start Posição do primeiro caractere do domínio
+     * @return true se o domínio é válido
+     */
+    private static boolean isValidAsciiDomain(String email, int start) {
+        if (email.charAt(start) == '.') {
+            return false;
+        }
+        
+        // TLD: pelo menos duas letras após o último ponto
+        int lastDot = email.lastIndexOf('.');
+        if (lastDot <= start || email.length() - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = start; i < email.length(); i++) {
+            char c = email.charAt(i);
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            if (i > lastDot ? !letter : !(letter || (c >= '0' && c <= '9') || c == '.' || c == '-')) {
+                return false;
+            }
+        }
+        
+        // Verifica domínios conhecidos como inválidos
+        for (String invalidDomain : INVALID_DOMAINS) {
+            for (int i = start; i <= email.length() - invalidDomain.length(); i++) {
+                if (email.regionMatches(true, i, invalidDomain, 0, invalidDomain.length())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Valida um e-mail no modo estrito (RFC 5322 / RFC 5321).
+     * 
+     * Aceita local parts entre aspas, comentários e domínios literais
+     * ([IPv4] e [IPv6:...]). A validação padrão continua sendo o caminho mais rápido.
+     * 
+     * @param email E-mail a ser validado
+     * @return true se o e-mail é válido, false caso contrário
+     */
+    public static boolean isValidStrict(String email) {
+        try {
+            validateStrict(email);
+            return true;
+        } catch (InvalidDocumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Valida um e-mail no modo estrito e lança exceção se inválido.
+     * 
+     * @param email E-mail a ser validado
+     * @throws InvalidDocumentException se o e-mail for inválido
+     * @see EmailAddressParser
+     */
+    public static void validateStrict(String email) throws InvalidDocumentException {
+        EmailAddressParser address = EmailAddressParser.parse(email);
+        
+        // Verifica domínios conhecidos como inválidos
+        if (!address.isDomainLiteral()) {
+            validateAllowedDomain(address.getDomain());
+        }
+    }
+    
+    /**
+     * Valida um e-mail internacionalizado (SMTPUTF8 / IDN).
+     * 
+     * Aceita caracteres UTF-8 no local part e domínios internacionalizados,
+     * convertidos para punycode antes da validação do domínio. Endereços
+     * puramente ASCII são detectados com uma única varredura e seguem
+     * diretamente para {@link #isValid(String)}.
+     * 
+     * @param email E-mail a ser validado
+     * @return true se o e-mail é válido, false caso contrário
+     */
+    public static boolean isValidInternational(String email) {
+        try {
+            validateInternational(email);
+            return true;
+        } catch (InvalidDocumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Valida um e-mail internacionalizado e lança exceção se inválido.
+     * 
+     * @param email E-mail a ser validado
+     * @throws InvalidDocumentException se o e-mail for inválido
+     */
+    public static void validateInternational(String email) throws InvalidDocumentException {
+        // Verifica se é nulo ou vazio
+        if (email == null || email.trim().isEmpty()) {
+            throw new InvalidDocumentException("E-mail não pode ser nulo ou vazio");
+        }
+        
+        // Remove espaços em branco
+        String cleanEmail = email.trim();
+        
+        // Caminho rápido: endereços ASCII usam a validação padrão
+        if (isAscii(cleanEmail)) {
+            validate(cleanEmail);
+            return;
+        }
+        
+        // Verifica se contém exatamente um '@' em posição válida
+        int atIndex = cleanEmail.indexOf('@');
+        if (atIndex <= 0 || atIndex == cleanEmail.length() - 1) {
+            throw new InvalidDocumentException("E-mail deve conter exatamente um '@' em posição válida");
+        }
+        if (cleanEmail.indexOf('@', atIndex + 1) != -1) {
+            throw new InvalidDocumentException("E-mail não pode conter mais de um '@'");
+        }
+        
+        String localPart = cleanEmail.substring(0, atIndex);
+        validateInternationalLocalPart(localPart);
+        
+        // Converte o domínio para punycode (A-label)
+        String domain = toAsciiDomain(cleanEmail.substring(atIndex + 1));
+        if (domain == null || !DOMAIN_PATTERN.matcher(domain).matches()) {
+            throw new InvalidDocumentException("Domínio inválido");
+        }
+        
+        // Tamanho máximo medido em octetos UTF-8 (RFC 6531)
+        if (utf8Length(localPart) + 1 + domain.length() > 254) {
+            throw new InvalidDocumentException("E-mail muito longo");
+        }
+        
+        validateDomain(domain);
+    }
+    
+    /**
+     * Converte o domínio de um e-mail para ASCII (punycode).
+     * 
+     * @param email E-mail a ser convertido
+     * @return E-mail com o domínio em punycode, ou o original se não puder converter
+     */
+    public static String toAscii(String email) {
+        if (email == null) {
+            return null;
+        }
+        
+        String cleanEmail = email.trim();
+        if (isAscii(cleanEmail)) {
+            return cleanEmail;
+        }
+        
+        int atIndex = cleanEmail.lastIndexOf('@');
+        if (atIndex == -1) {
+            return email; // Retorna original se não puder converter
+        }
+        
+        String domain = toAsciiDomain(cleanEmail.substring(atIndex + 1));
+        if (domain == null) {
+            return email;
+        }
+        
+        return cleanEmail.substring(0, atIndex + 1) + domain;
+    }
+    
+    /**
+     * Valida o domínio de um e-mail já convertido para ASCII.
+     * 
+     * @param domain Domínio do e-mail
+     * @throws InvalidDocumentException se o domínio for inválido
+     */
+    private static void validateDomain(String domain) throws InvalidDocumentException {
         if (domain.startsWith(".") || domain.endsWith(".")) {
             throw new InvalidDocumentException("Domínio inválido");
         }
@@ -99,7 +352,16 @@ public class EmailValidator {
             throw new InvalidDocumentException("Domínio deve conter pelo menos um ponto");
         }
         
-        // Verifica domínios conhecidos como inválidos
+        validateAllowedDomain(domain);
+    }
+    
+    /**
+     * Verifica se o domínio não está entre os domínios conhecidos como inválidos.
+     * 
+     * @param domain Domínio do e-mail
+     * @throws InvalidDocumentException se o domínio não for permitido
+     */
+    private static void validateAllowedDomain(String domain) throws InvalidDocumentException {
         for (String invalidDomain : INVALID_DOMAINS) {
             if (domain.toLowerCase().contains(invalidDomain)) {
                 throw new InvalidDocumentException("Domínio de e-mail não permitido");
@@ -107,6 +369,119 @@ public class EmailValidator {
         }
     }
     
+    /**
+     * Valida um local part que pode conter caracteres UTF-8.
+     * 
+     * @param localPart Local part do e-mail
+     * @throws InvalidDocumentException se o local part for inválido
+     */
+    private static void validateInternationalLocalPart(String localPart) throws InvalidDocumentException {
+        if (localPart.startsWith(".") || localPart.endsWith(".")) {
+            throw new InvalidDocumentException("Local part do e-mail não pode começar ou terminar com ponto");
+        }
+        
+        boolean previousDot = false;
+        for (int i = 0; i < localPart.length(); ) {
+            int codePoint = localPart.codePointAt(i);
+            if (codePoint == '.' && previousDot) {
+                throw new InvalidDocumentException("E-mail não pode conter pontos consecutivos");
+            }
+            if (!isValidLocalPartCodePoint(codePoint)) {
+                throw new InvalidDocumentException("Formato de e-mail inválido");
+            }
+            previousDot = codePoint == '.';
+            i += Character.charCount(codePoint);
+        }
+    }
+    
+    /**
+     * Verifica se um code point é permitido no local part.
+     * 
+     * @param codePoint Code point a ser verificado
+     * @return true se o code point é permitido
+     */
+    private static boolean isValidLocalPartCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            return LOCAL_PART_ASCII_CHARS.indexOf(codePoint) != -1;
+        }
+        
+        // UTF8-non-ascii: letras, dígitos e marcas combinantes
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+    
+    /**
+     * Converte um domínio internacionalizado para punycode.
+     * 
+     * @param domain Domínio a ser convertido
+     * @return Domínio em ASCII, ou null se não puder ser convertido
+     */
+    private static String toAsciiDomain(String domain) {
+        if (isAscii(domain)) {
+            return domain;
+        }
+        try {
+            return IDN.toASCII(domain, IDN.USE_STD3_ASCII_RULES);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Verifica, em uma única varredura, se a string contém apenas ASCII.
+     * 
+     * @param value String a ser verificada
+     * @return true se todos os caracteres forem ASCII
+     */
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Calcula o tamanho de uma string em octetos UTF-8.
+     * 
+     * @param value String a ser medida
+     * @return Quantidade de octetos UTF-8
+     */
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+    
+    /**
+     * Sugere a correção de um domínio popular digitado com erro (ex: gmial.com).
+     * 
+     * @param email E-mail a ser verificado
+     * @return E-mail com o domínio corrigido, ou null se o e-mail for inválido ou não houver sugestão
+     */
+    public static String suggestCorrection(String email) {
+        if (!isValid(email)) {
+            return null;
+        }
+        return EmailDomainSuggester.getDefault().suggest(email);
+    }
+    
     /**
      * Formata um e-mail para minúsculas.
      * 
@@ -0,0 +1,361 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Tokenização de números de cartão com criptografia que preserva o formato
+ * (FF1, NIST SP 800-38G, sobre o alfabeto de dígitos decimais com AES).
+ *
+ * O token mantém os 6 primeiros e os 4 últimos dígitos, como em
+ * {@link CreditCardValidator#mask(String)}, e cifra os dígitos do meio usando
+ * os dígitos preservados como tweak. Como o último dígito é preservado, os
+ * dígitos do meio são cifrados repetidamente (cycle walking) até que o token
+ * satisfaça o algoritmo de Luhn; a destokenização decifra repetidamente até
+ * voltar a um número válido, o que torna a operação reversível.
+ *
+ * O domínio cifrado deve ter pelo menos 10^6 valores (mínimo da NIST), então
+ * são aceitos cartões de 16 a 19 dígitos.
+ *
+ * Cada thread mantém o seu próprio estado do AES e seus buffers, de modo que
+ * uma instância pode ser compartilhada e usada em lote sem alocação por rodada.
+ *
+ * @author Fabio Oliveira
+ */
+public class FormatPreservingTokenizer {
+
+    // Dígitos preservados no início e no fim do cartão
+    private static final int KEPT_PREFIX = 6;
+    private static final int KEPT_SUFFIX = 4;
+
+    // Menor e maior quantidade de dígitos cifrados pelo FF1 (10^6 <= domínio < 2^63)
+    private static final int MIN_DIGITS = 6;
+    private static final int MAX_DIGITS = 18;
+
+    // Rodadas da rede de Feistel do FF1
+    private static final int ROUNDS = 10;
+
+    private static final int BLOCK = 16;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<State> state;
+
+    /**
+     * Estado reutilizado por thread: cifra AES e buffers.
+     */
+    private static class State {
+        final Cipher cipher;
+        final byte[] mac = new byte[BLOCK];
+        final byte[] digits = new byte[32];
+
+        State(SecretKeySpec key) {
+            try {
+                cipher = Cipher.getInstance("AES/ECB/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("AES indisponível", e);
+            }
+        }
+
+        /**
+         * Cifra o bloco em {@code mac} (no próprio lugar).
+         */
+        void encryptMac() {
+            try {
+                cipher.update(mac, 0, BLOCK, mac, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Cria um tokenizador com uma chave AES.
+     *
+     * @param key Chave AES de 16, 24 ou 32 bytes
+     * @throws IllegalArgumentException se a chave tiver tamanho inválido
+     */
+    public FormatPreservingTokenizer(byte[] key) {
+        if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+            throw new IllegalArgumentException("Chave AES deve ter 16, 24 ou 32 bytes");
+        }
+        this.key = new SecretKeySpec(key.clone(), "AES");
+        this.state = ThreadLocal.withInitial(() -> new State(this.key));
+    }
+
+    /**
+     * Cria um tokenizador com a chave de um arquivo local.
+     *
+     * O arquivo pode conter a chave binária (16, 24 ou 32 bytes) ou a chave
+     * em hexadecimal (32, 48 ou 64 caracteres).
+     *
+     * @param keyFile Arquivo da chave
+     * @return Tokenizador
+     * @throws IOException se o arquivo não puder ser lido ou não contiver uma chave válida
+     */
+    public static FormatPreservingTokenizer fromKeyFile(Path keyFile) throws IOException {
+        byte[] content = Files.readAllBytes(keyFile);
+        if (content.length == 16 || content.length == 24 || content.length == 32) {
+            return new FormatPreservingTokenizer(content);
+        }
+
+        String hex = new String(content, StandardCharsets.US_ASCII).trim();
+        if (hex.length() != 32 && hex.length() != 48 && hex.length() != 64) {
+            throw new IOException("Arquivo de chave inválido");
+        }
+        byte[] key = new byte[hex.length() / 2];
+        for (int i = 0; i < key.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IOException("Arquivo de chave inválido");
+            }
+            key[i] = (byte) ((high << 4) | low);
+        }
+        return new FormatPreservingTokenizer(key);
+    }
+
+    /**
+     * Gera o token de um número de cartão.
+     *
+     * @param cardNumber Número do cartão (caracteres não numéricos são ignorados)
+     * @return Token de mesmo tamanho, válido pelo algoritmo de Luhn
+     * @throws InvalidDocumentException se o cartão não tiver de 16 a 19 dígitos ou não for válido pelo algoritmo de Luhn
+     */
+    public String tokenize(String cardNumber) throws InvalidDocumentException {
+        return transform(cardNumber, true);
+    }
+
+    /**
+     * Recupera o número do cartão a partir do token.
+     *
+     * @param token Token gerado por {@link #tokenize(String)}
+     * @return Número do cartão original
+     * @throws InvalidDocumentException se o token não tiver de 16 a 19 dígitos ou não for válido pelo algoritmo de Luhn
+     */
+    public String detokenize(String token) throws InvalidDocumentException {
+        return transform(token, false);
+    }
+
+    /**
+     * Gera os tokens de uma lista de cartões em paralelo.
+     *
+     * @param cardNumbers Números dos cartões
+     * @return Tokens na mesma ordem, com null para os cartões inválidos
+     */
+    public List<String> tokenizeAll(List<String> cardNumbers) {
+        return cardNumbers.parallelStream().map(cardNumber -> {
+            try {
+                return tokenize(cardNumber);
+            } catch (InvalidDocumentException e) {
+                return null;
+            }
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Cifra uma sequência de dígitos com FF1 (radix 10).
+     *
+     * @param digits Dígitos a cifrar (6 a 18)
+     * @param tweak Tweak (pode ser vazio)
+     * @return Dígitos cifrados
+     * @throws IllegalArgumentException se a quantidade de dígitos for inválida
+     */
+    public String encrypt(CharSequence digits, byte[] tweak) {
+        return ff1(digits, tweak, true);
+    }
+
+    /**
+     * Decifra uma sequência de dígitos com FF1 (radix 10).
+     *
+     * @param digits Dígitos a decifrar (6 a 18)
+     * @param tweak Tweak usado na cifragem
+     * @return Dígitos originais
+     * @throws IllegalArgumentException se a quantidade de dígitos for inválida
+     */
+    public String decrypt(CharSequence digits, byte[] tweak) {
+        return ff1(digits, tweak, false);
+    }
+
+    /**
+     * Tokeniza ou destokeniza um número de cartão.
+     */
+    private String transform(String cardNumber, boolean encrypt) throws InvalidDocumentException {
+        if (cardNumber == null) {
+            throw new InvalidDocumentException("Número do cartão não pode ser nulo");
+        }
+
+        State s = state.get();
+        byte[] digits = s.digits;
+        int length = 0;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (length == CardBrand.MAX_PAN_DIGITS) {
+                    throw new InvalidDocumentException("Número do cartão muito longo");
+                }
+                digits[length++] = (byte) c;
+            }
+        }
+        int middle = length - KEPT_PREFIX - KEPT_SUFFIX;
+        if (middle < MIN_DIGITS) {
+            throw new InvalidDocumentException("Número do cartão deve ter de 16 a 19 dígitos");
+        }
+        if (!Luhn.isValid(digits, 0, length)) {
+            throw new InvalidDocumentException("Número do cartão inválido (algoritmo de Luhn)");
+        }
+
+        // Tweak: dígitos preservados
+        byte[] tweak = new byte[KEPT_PREFIX + KEPT_SUFFIX];
+        System.arraycopy(digits, 0, tweak, 0, KEPT_PREFIX);
+        System.arraycopy(digits, length - KEPT_SUFFIX, tweak, KEPT_PREFIX, KEPT_SUFFIX);
+
+        long value = 0;
+        for (int i = KEPT_PREFIX; i < KEPT_PREFIX + middle; i++) {
+            value = value * 10 + (digits[i] - '0');
+        }
+
+        // Cycle walking até obter um número válido pelo algoritmo de Luhn
+        do {
+            value = ff1(s, value, middle, tweak, encrypt);
+            long remaining = value;
+            for (int i = KEPT_PREFIX + middle - 1; i >= KEPT_PREFIX; i--) {
+                digits[i] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+        } while (!Luhn.isValid(digits, 0, length));
+
+        return new String(digits, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * FF1 sobre texto.
+     */
+    private String ff1(CharSequence digits, byte[] tweak, boolean encrypt) {
+        int n = digits.length();
+        if (n < MIN_DIGITS || n > MAX_DIGITS) {
+            throw new IllegalArgumentException("FF1 requer de " + MIN_DIGITS + " a " + MAX_DIGITS + " dígitos");
+        }
+        long value = 0;
+        for (int i = 0; i < n; i++) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("FF1 requer apenas dígitos");
+            }
+            value = value * 10 + digit;
+        }
+
+        long result = ff1(state.get(), value, n, tweak, encrypt);
+        char[] chars = new char[n];
+        for (int i = n - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + result % 10);
+            result /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * FF1 (radix 10) sobre um número de {@code n} dígitos.
+     */
+    private static long ff1(State s, long value, int n, byte[] tweak, boolean encrypt) {
+        int u = n / 2;
+        int v = n - u;
+        int b = (int) Math.ceil(Math.ceil(v * (Math.log(10) / Math.log(2))) / 8);
+        int t = tweak.length;
+        int pad = Math.floorMod(-t - b - 1, BLOCK);
+
+        long numA = value / POWERS_OF_TEN[v];
+        long numB = value % POWERS_OF_TEN[v];
+
+        for (int round = 0; round < ROUNDS; round++) {
+            int i = encrypt ? round : ROUNDS - 1 - round;
+            long y = prf(s, n, u, tweak, pad, i, encrypt ? numB : numA, b);
+            long modulus = POWERS_OF_TEN[i % 2 == 0 ? u : v];
+            long yMod = Long.remainderUnsigned(y, modulus);
+            if (encrypt) {
+                long c = (numA + yMod) % modulus;
+                numA = numB;
+                numB = c;
+            } else {
+                long c = Math.floorMod(numB - yMod, modulus);
+                numB = numA;
+                numA = c;
+            }
+        }
+        return numA * POWERS_OF_TEN[v] + numB;
+    }
+
+    /**
+     * Função pseudoaleatória do FF1: CBC-MAC de P || Q, retornando os 8
+     * primeiros bytes (d = 8 para até 18 dígitos).
+     */
+    private static long prf(State s, int n, int u, byte[] tweak, int pad, int round, long num, int b) {
+        byte[] mac = s.mac;
+
+        // P = [1]^1 || [2]^1 || [1]^1 || [radix]^3 || [10]^1 || [u mod 256]^1 || [n]^4 || [t]^4
+        int t = tweak.length;
+        mac[0] = 1;
+        mac[1] = 2;
+        mac[2] = 1;
+        mac[3] = 0;
+        mac[4] = 0;
+        mac[5] = 10;
+        mac[6] = 10;
+        mac[7] = (byte) u;
+        writeInt(mac, 8, n);
+        writeInt(mac, 12, t);
+        s.encryptMac();
+
+        // Q = T || [0]^pad || [i]^1 || [NUM(B)]^b, processado em blocos de 16 bytes
+        int length = t + pad + 1 + b;
+        int position = 0;
+        for (int offset = 0; offset < length; offset += BLOCK) {
+            for (int k = 0; k < BLOCK; k++, position++) {
+                byte q;
+                if (position < t) {
+                    q = tweak[position];
+                } else if (position < t + pad) {
+                    q = 0;
+                } else if (position == t + pad) {
+                    q = (byte) round;
+                } else {
+                    int shift = 8 * (length - 1 - position);
+                    q = (byte) (num >>> shift);
+                }
+                mac[k] ^= q;
+            }
+            s.encryptMac();
+        }
+
+        long y = 0;
+        for (int k = 0; k < 8; k++) {
+            y = (y << 8) | (mac[k] & 0xFF);
+        }
+        return y;
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,353 @@
+package br.ufjf.ead.validator;
+
+/**
+ * Índice espacial de pontos geográficos para consultas de vizinhos mais
+ * próximos e por raio.
+ *
+ * Os pontos são convertidos em vetores unitários 3D e organizados em uma
+ * KD-tree implícita (o nó de cada intervalo é o elemento do meio), de modo que
+ * a distância em linha reta entre os vetores é monotônica em relação à
+ * distância sobre a superfície da Terra, sem a distorção de uma projeção plana.
+ *
+ * As consultas escrevem os resultados em arrays fornecidos pelo chamador e
+ * não alocam memória, permitindo reaproveitar os mesmos arrays em milhares de
+ * consultas por segundo. Instâncias são imutáveis e seguras entre threads.
+ *
+ * @author Fabio Oliveira
+ */
+public class GeoPointIndex {
+
+    /** Raio médio da Terra, em quilômetros. */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final int[] ids;
+    private final byte[] axes;
+
+    /**
+     * Constrói o índice. O identificador de cada ponto é a sua posição nos arrays.
+     *
+     * @param latitudes Latitudes em graus
+     * @param longitudes Longitudes em graus
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes ou houver coordenada inválida
+     */
+    public GeoPointIndex(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Cada latitude deve ter sua longitude");
+        }
+
+        int n = latitudes.length;
+        xs = new double[n];
+        ys = new double[n];
+        zs = new double[n];
+        ids = new int[n];
+        axes = new byte[n];
+
+        for (int i = 0; i < n; i++) {
+            double lat = latitudes[i];
+            double lon = longitudes[i];
+            if (!(lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180)) {
+                throw new IllegalArgumentException("Coordenada inválida na posição " + i);
+            }
+            double phi = Math.toRadians(lat);
+            double lambda = Math.toRadians(lon);
+            xs[i] = Math.cos(phi) * Math.cos(lambda);
+            ys[i] = Math.cos(phi) * Math.sin(lambda);
+            zs[i] = Math.sin(phi);
+            ids[i] = i;
+        }
+
+        build(0, n);
+    }
+
+    /**
+     * Quantidade de pontos no índice.
+     *
+     * @return Quantidade de pontos
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Busca os k pontos mais próximos de uma coordenada.
+     *
+     * @param latitude Latitude em graus
+     * @param longitude Longitude em graus
+     * @param k Quantidade máxima de pontos
+     * @param resultIds Recebe os identificadores, do mais próximo ao mais distante (tamanho mínimo k)
+     * @param resultKm Recebe as distâncias em km (tamanho mínimo k)
+     * @return Quantidade de pontos encontrados (mínimo entre k e {@link #size()})
+     */
+    public int nearest(double latitude, double longitude, int k, int[] resultIds, double[] resultKm) {
+        if (k <= 0) {
+            return 0;
+        }
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double qx = Math.cos(phi) * Math.cos(lambda);
+        double qy = Math.cos(phi) * Math.sin(lambda);
+        double qz = Math.sin(phi);
+
+        // Max-heap dos k melhores pelo quadrado da corda
+        int count = nearest(0, ids.length, qx, qy, qz, k, 0, resultIds, resultKm);
+
+        // Ordena o heap em ordem crescente e converte as distâncias
+        for (int end = count - 1; end > 0; end--) {
+            swap(resultIds, resultKm, 0, end);
+            siftDown(resultIds, resultKm, 0, end);
+        }
+        for (int i = 0; i < count; i++) {
+            resultKm[i] = chordToKm(resultKm[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Busca os pontos dentro de um raio.
+     *
+     * Somente os primeiros {@code resultIds.length} pontos encontrados são
+     * gravados, em ordem arbitrária, mas todos são contados.
+     *
+     * @param latitude Latitude em graus
+     * @param longitude Longitude em graus
+     * @param radiusKm Raio em quilômetros
+     * @param resultIds Recebe os identificadores dos pontos encontrados
+     * @return Quantidade total de pontos dentro do raio
+     */
+    public int withinRadius(double latitude, double longitude, double radiusKm, int[] resultIds) {
+        if (radiusKm < 0) {
+            return 0;
+        }
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double qx = Math.cos(phi) * Math.cos(lambda);
+        double qy = Math.cos(phi) * Math.sin(lambda);
+        double qz = Math.sin(phi);
+
+        double angle = Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI);
+        double chord = 2 * Math.sin(angle / 2);
+        return withinRadius(0, ids.length, qx, qy, qz, chord * chord, 0, resultIds);
+    }
+
+    /**
+     * Distância sobre a superfície da Terra entre duas coordenadas (haversine).
+     *
+     * @return Distância em quilômetros
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dPhi = Math.toRadians(lat2 - lat1);
+        double dLambda = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dPhi / 2) * Math.sin(dPhi / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLambda / 2) * Math.sin(dLambda / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Organiza o intervalo como subárvore, dividindo pelo eixo de maior amplitude.
+     */
+    private void build(int lo, int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        double minZ = Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        for (int i = lo; i < hi; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+            minZ = Math.min(minZ, zs[i]);
+            maxZ = Math.max(maxZ, zs[i]);
+        }
+        double spreadX = maxX - minX;
+        double spreadY = maxY - minY;
+        double spreadZ = maxZ - minZ;
+        int axis = spreadX >= spreadY && spreadX >= spreadZ ? 0 : spreadY >= spreadZ ? 1 : 2;
+
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, axis);
+        axes[mid] = (byte) axis;
+        build(lo, mid);
+        build(mid + 1, hi);
+    }
+
+    /**
+     * Posiciona em {@code k} o elemento que estaria ali se o intervalo estivesse
+     * ordenado pelo eixo, com os menores à esquerda (quickselect).
+     */
+    private void select(int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = coordinate(axis, (left + right) >>> 1);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(axis, i) < pivot) {
+                    i++;
+                }
+                while (coordinate(axis, j) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swapPoints(i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Busca recursiva dos k mais próximos.
+     *
+     * @return Quantidade de pontos no heap
+     */
+    private int nearest(int lo, int hi, double qx, double qy, double qz, int k, int count,
+                        int[] heapIds, double[] heapDistances) {
+        if (lo >= hi) {
+            return count;
+        }
+        int mid = (lo + hi) >>> 1;
+
+        double dx = xs[mid] - qx;
+        double dy = ys[mid] - qy;
+        double dz = zs[mid] - qz;
+        double distance = dx * dx + dy * dy + dz * dz;
+        if (count < k) {
+            heapIds[count] = ids[mid];
+            heapDistances[count] = distance;
+            siftUp(heapIds, heapDistances, count++);
+        } else if (distance < heapDistances[0]) {
+            heapIds[0] = ids[mid];
+            heapDistances[0] = distance;
+            siftDown(heapIds, heapDistances, 0, count);
+        }
+
+        int axis = axes[mid];
+        double diff = query(axis, qx, qy, qz) - coordinate(axis, mid);
+        if (diff < 0) {
+            count = nearest(lo, mid, qx, qy, qz, k, count, heapIds, heapDistances);
+            if (count < k || diff * diff < heapDistances[0]) {
+                count = nearest(mid + 1, hi, qx, qy, qz, k, count, heapIds, heapDistances);
+            }
+        } else {
+            count = nearest(mid + 1, hi, qx, qy, qz, k, count, heapIds, heapDistances);
+            if (count < k || diff * diff < heapDistances[0]) {
+                count = nearest(lo, mid, qx, qy, qz, k, count, heapIds, heapDistances);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Busca recursiva por raio.
+     *
+     * @return Quantidade de pontos encontrados até agora
+     */
+    private int withinRadius(int lo, int hi, double qx, double qy, double qz, double limit,
+                             int count, int[] resultIds) {
+        if (lo >= hi) {
+            return count;
+        }
+        int mid = (lo + hi) >>> 1;
+
+        double dx = xs[mid] - qx;
+        double dy = ys[mid] - qy;
+        double dz = zs[mid] - qz;
+        if (dx * dx + dy * dy + dz * dz <= limit) {
+            if (count < resultIds.length) {
+                resultIds[count] = ids[mid];
+            }
+            count++;
+        }
+
+        int axis = axes[mid];
+        double diff = query(axis, qx, qy, qz) - coordinate(axis, mid);
+        if (diff <= 0 || diff * diff <= limit) {
+            count = withinRadius(lo, mid, qx, qy, qz, limit, count, resultIds);
+        }
+        if (diff >= 0 || diff * diff <= limit) {
+            count = withinRadius(mid + 1, hi, qx, qy, qz, limit, count, resultIds);
+        }
+        return count;
+    }
+
+    private double coordinate(int axis, int i) {
+        return axis == 0 ? xs[i] : axis == 1 ? ys[i] : zs[i];
+    }
+
+    private static double query(int axis, double qx, double qy, double qz) {
+        return axis == 0 ? qx : axis == 1 ? qy : qz;
+    }
+
+    private void swapPoints(int i, int j) {
+        double x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+        double y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+        double z = zs[i];
+        zs[i] = zs[j];
+        zs[j] = z;
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+    }
+
+    private static void siftUp(int[] heapIds, double[] heapDistances, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapDistances[parent] >= heapDistances[i]) {
+                return;
+            }
+            swap(heapIds, heapDistances, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heapIds, double[] heapDistances, int i, int size) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && heapDistances[left] > heapDistances[largest]) {
+                largest = left;
+            }
+            if (right < size && heapDistances[right] > heapDistances[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(heapIds, heapDistances, i, largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(int[] heapIds, double[] heapDistances, int i, int j) {
+        int id = heapIds[i];
+        heapIds[i] = heapIds[j];
+        heapIds[j] = id;
+        double distance = heapDistances[i];
+        heapDistances[i] = heapDistances[j];
+        heapDistances[j] = distance;
+    }
+
+    /**
+     * Converte o quadrado da corda entre vetores unitários em distância sobre a superfície.
+     */
+    private static double chordToKm(double chordSquared) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(chordSquared) / 2));
+    }
+}
@@ -0,0 +1,127 @@
+package br.ufjf.ead.validator;
+
+/**
+ * Algoritmo de Luhn (módulo 10) sem alocação de memória.
+ *
+ * Os dígitos são lidos diretamente do texto (ou de bytes ASCII) e os
+ * dígitos dobrados são obtidos de uma tabela pré-calculada, evitando a
+ * multiplicação e o ajuste "n - 9" a cada posição. O laço processa dois
+ * dígitos por iteração (um simples e um dobrado), sem alternar flags.
+ *
+ * @author Fabio Oliveira
+ */
+public final class Luhn {
+
+    // Valor de cada dígito dobrado, já com a soma dos algarismos (ex: 7 -> 14 -> 5)
+    private static final int[] DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+    private Luhn() {
+    }
+
+    /**
+     * Verifica o dígito de Luhn de um número.
+     *
+     * @param digits Número composto apenas de dígitos ASCII
+     * @return true se o número não for vazio, contiver apenas dígitos e a soma de Luhn for múltipla de 10
+     */
+    public static boolean isValid(CharSequence digits) {
+        if (digits == null) {
+            return false;
+        }
+        int sum = sum(digits, 0, digits.length());
+        return sum >= 0 && digits.length() > 0 && sum % 10 == 0;
+    }
+
+    /**
+     * Verifica o dígito de Luhn de um número em bytes ASCII.
+     *
+     * @param digits Bytes com os dígitos ASCII
+     * @param offset Posição do primeiro dígito
+     * @param length Quantidade de dígitos
+     * @return true se o trecho não for vazio, contiver apenas dígitos e a soma de Luhn for múltipla de 10
+     */
+    public static boolean isValid(byte[] digits, int offset, int length) {
+        int sum = sum(digits, offset, length);
+        return sum >= 0 && length > 0 && sum % 10 == 0;
+    }
+
+    /**
+     * Calcula a soma de Luhn de um trecho de texto, dobrando a partir do
+     * penúltimo dígito (o último é o dígito verificador).
+     *
+     * @param digits Texto com os dígitos
+     * @param start Posição inicial (inclusiva)
+     * @param end Posição final (exclusiva)
+     * @return Soma de Luhn, ou -1 se houver caractere que não seja dígito
+     */
+    public static int sum(CharSequence digits, int start, int end) {
+        int sum = 0;
+        int i = end - 1;
+        for (; i > start; i -= 2) {
+            int plain = digits.charAt(i) - '0';
+            int doubled = digits.charAt(i - 1) - '0';
+            if ((plain | doubled | (9 - plain) | (9 - doubled)) < 0) {
+                return -1;
+            }
+            sum += plain + DOUBLED[doubled];
+        }
+        if (i == start) {
+            int plain = digits.charAt(i) - '0';
+            if ((plain | (9 - plain)) < 0) {
+                return -1;
+            }
+            sum += plain;
+        }
+        return sum;
+    }
+
+    /**
+     * Calcula a soma de Luhn de um trecho de bytes ASCII.
+     *
+     * @param digits Bytes com os dígitos
+     * @param offset Posição do primeiro dígito
+     * @param length Quantidade de dígitos
+     * @return Soma de Luhn, ou -1 se houver byte que não seja dígito
+     */
+    public static int sum(byte[] digits, int offset, int length) {
+        int sum = 0;
+        int i = offset + length - 1;
+        for (; i > offset; i -= 2) {
+            int plain = digits[i] - '0';
+            int doubled = digits[i - 1] - '0';
+            if ((plain | doubled | (9 - plain) | (9 - doubled)) < 0) {
+                return -1;
+            }
+            sum += plain + DOUBLED[doubled];
+        }
+        if (i == offset) {
+            int plain = digits[i] - '0';
+            if ((plain | (9 - plain)) < 0) {
+                return -1;
+            }
+            sum += plain;
+        }
+        return sum;
+    }
+
+    /**
+     * Calcula o dígito verificador a ser acrescentado ao final de um número parcial.
+     *
+     * @param partial Número sem o dígito verificador, composto apenas de dígitos ASCII
+     * @return Dígito de 0 a 9, ou -1 se o número for vazio ou tiver caractere que não seja dígito
+     */
+    public static int checkDigit(CharSequence partial) {
+        int length = partial.length();
+        if (length == 0) {
+            return -1;
+        }
+        // Com o dígito verificador acrescentado, o último dígito do parcial passa a ser dobrado
+        int last = partial.charAt(length - 1) - '0';
+        int sum = sum(partial, 0, length - 1);
+        if (sum < 0 || (last | (9 - last)) < 0) {
+            return -1;
+        }
+        sum += DOUBLED[last];
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,380 @@
+package br.ufjf.ead.validator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Varredura de arquivos (ex: logs) em busca de números de cartão.
+ *
+ * Um candidato começa em um grupo de dígitos (não precedido por dígito) e é
+ * um grupo isolado de 12 a 19 dígitos ou grupos separados por um mesmo
+ * separador, espaço ou hífen, no formato de um cartão agrupado: grupos de 4
+ * com o último de 1 a 4 dígitos (ex: "4111 1111 1111 1111") ou 4-6-4 e 4-6-5
+ * (ex: "3782-822463-10005"). Assim, um cartão ao lado de outros números (ex:
+ * "2026-10-19 12:00:01 4111111111111111 200") continua sendo encontrado;
+ * grupos com mais de 19 dígitos são descartados. Cada candidato, do mais
+ * longo para o mais curto, passa pelo algoritmo de Luhn e pelo filtro de BIN
+ * (a {@link BinTable} informada ou as bandeiras de {@link CreditCardValidator}),
+ * e os encontrados são mascarados como em {@link CreditCardValidator#mask(String)}.
+ * Um candidato que começa dentro de outro candidato válido anterior é ignorado.
+ *
+ * Arquivos são mapeados em memória e divididos em segmentos processados em
+ * paralelo. Cada segmento é responsável pelos candidatos que começam nele,
+ * lendo alguns bytes antes do seu início e além do seu fim para completá-los.
+ *
+ * @author Fabio Oliveira
+ */
+public class PanScanner {
+
+    /** Menor quantidade de dígitos de um cartão. */
+    public static final int MIN_DIGITS = CardBrand.MIN_PAN_DIGITS;
+
+    /** Maior quantidade de dígitos de um cartão. */
+    public static final int MAX_DIGITS = CardBrand.MAX_PAN_DIGITS;
+
+    /** Tamanho padrão de cada segmento processado em paralelo (64 MB). */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    // Bytes lidos além do fim do segmento; suficiente para completar um
+    // candidato iniciado no segmento e saber se o seu último grupo terminou
+    private static final int OVERLAP = 2 * MAX_DIGITS + 2;
+
+    // Bytes lidos antes do início do segmento; suficiente para conter um
+    // candidato anterior (19 dígitos e 18 separadores) que se sobreponha a ele
+    private static final int LOOKBEHIND = 2 * MAX_DIGITS;
+
+    // Maior quantidade de grupos de um cartão agrupado (4-4-4-4-3)
+    private static final int MAX_GROUPS = 5;
+
+    private final BinTable binTable;
+    private final int segmentSize;
+
+    /**
+     * Número de cartão encontrado.
+     */
+    public static class Hit {
+
+        private final long offset;
+        private final int length;
+        private final String masked;
+
+        Hit(long offset, int length, String masked) {
+            this.offset = offset;
+            this.length = length;
+            this.masked = masked;
+        }
+
+        /**
+         * @return Posição do primeiro byte no arquivo
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return Quantidade de bytes no arquivo, incluindo separadores
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return Número mascarado (ex: 411111 ****** 1111)
+         */
+        public String getMasked() {
+            return masked;
+        }
+
+        @Override
+        public String toString() {
+            return offset + ": " + masked;
+        }
+    }
+
+    /**
+     * Cria um scanner que filtra os BINs pelas bandeiras de {@link CreditCardValidator}.
+     */
+    public PanScanner() {
+        this(null);
+    }
+
+    /**
+     * Cria um scanner que filtra os BINs por uma tabela.
+     *
+     * @param binTable Tabela de BIN, ou null para usar as bandeiras de {@link CreditCardValidator}
+     */
+    public PanScanner(BinTable binTable) {
+        this(binTable, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Cria um scanner com tamanho de segmento definido.
+     *
+     * @param binTable Tabela de BIN, ou null para usar as bandeiras de {@link CreditCardValidator}
+     * @param segmentSize Tamanho de cada segmento processado em paralelo, em bytes
+     * @throws IllegalArgumentException se o tamanho do segmento não for positivo
+     */
+    public PanScanner(BinTable binTable, int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Tamanho do segmento deve ser positivo");
+        }
+        this.binTable = binTable;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Busca números de cartão em um arquivo.
+     *
+     * @param file Arquivo a ser varrido
+     * @return Números encontrados, em ordem de posição
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public List<Hit> scan(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int segments = (int) ((size + segmentSize - 1) / segmentSize);
+
+            List<List<Hit>> results = IntStream.range(0, segments).parallel()
+                .mapToObj(segment -> scanSegment(channel, size, segment))
+                .collect(Collectors.toList());
+
+            List<Hit> hits = new ArrayList<>();
+            for (List<Hit> result : results) {
+                hits.addAll(result);
+            }
+            return hits;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Busca números de cartão em um conteúdo em memória.
+     *
+     * @param data Conteúdo a ser varrido
+     * @return Números encontrados, em ordem de posição
+     */
+    public List<Hit> scan(byte[] data) {
+        List<Hit> hits = new ArrayList<>();
+        scan(ByteBuffer.wrap(data), 0, 0, data.length, hits);
+        return hits;
+    }
+
+    /**
+     * Copia um arquivo substituindo os números de cartão pela forma mascarada.
+     *
+     * @param input Arquivo original
+     * @param output Arquivo mascarado
+     * @return Quantidade de números mascarados
+     * @throws IOException se algum arquivo não puder ser lido ou gravado
+     */
+    public int mask(Path input, Path output) throws IOException {
+        List<Hit> hits = scan(input);
+        byte[] buffer = new byte[1 << 16];
+
+        try (InputStream in = Files.newInputStream(input);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            long position = 0;
+            for (Hit hit : hits) {
+                copy(in, out, hit.getOffset() - position, buffer);
+                skip(in, hit.getLength());
+                out.write(hit.getMasked().getBytes(StandardCharsets.US_ASCII));
+                position = hit.getOffset() + hit.getLength();
+            }
+            copy(in, out, Long.MAX_VALUE, buffer);
+        }
+        return hits.size();
+    }
+
+    /**
+     * Mapeia e varre um segmento do arquivo.
+     */
+    private List<Hit> scanSegment(FileChannel channel, long size, int segment) {
+        long start = (long) segment * segmentSize;
+        long end = Math.min(size, start + segmentSize);
+        long windowStart = Math.max(0, start - LOOKBEHIND);
+        long windowEnd = Math.min(size, end + OVERLAP);
+
+        try {
+            ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+            List<Hit> hits = new ArrayList<>();
+            scan(window, windowStart, (int) (start - windowStart), (int) (end - windowStart), hits);
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Varre os candidatos que começam entre {@code from} e {@code to}.
+     *
+     * @param window Conteúdo (pode se estender antes de {@code from} e depois de {@code to})
+     * @param base Posição do início da janela no arquivo
+     * @param from Primeira posição a verificar
+     * @param to Posição final (exclusiva) para o início dos candidatos
+     * @param hits Recebe os números encontrados
+     */
+    private void scan(ByteBuffer window, long base, int from, int to, List<Hit> hits) {
+        byte[] digits = new byte[MAX_DIGITS];
+        int[] ends = new int[MAX_GROUPS];
+        int[] totals = new int[MAX_GROUPS];
+
+        // Os candidatos antes de from só servem para saber quais posições já estão cobertas
+        int covered = 0;
+        for (int i = 0; i < to; i++) {
+            if (!isDigit(window.get(i)) || (i > 0 && isDigit(window.get(i - 1)))) {
+                continue;
+            }
+            int groups = match(window, i, digits, ends, totals);
+            if (groups == 0) {
+                continue;
+            }
+            int end = ends[groups - 1];
+            if (i >= from && i >= covered) {
+                String number = new String(digits, 0, totals[groups - 1], StandardCharsets.US_ASCII);
+                hits.add(new Hit(base + i, end - i, CreditCardValidator.mask(number)));
+            }
+            covered = Math.max(covered, end);
+        }
+    }
+
+    /**
+     * Procura o candidato válido mais longo que começa na posição.
+     *
+     * @param window Conteúdo
+     * @param start Início do primeiro grupo de dígitos
+     * @param digits Recebe os dígitos do candidato
+     * @param ends Recebe a posição final (exclusiva) de cada grupo
+     * @param totals Recebe a quantidade acumulada de dígitos até cada grupo
+     * @return Quantidade de grupos do candidato, ou 0 se nenhum for válido
+     */
+    private int match(ByteBuffer window, int start, byte[] digits, int[] ends, int[] totals) {
+        int limit = window.limit();
+        int groupCount = 0;
+        int count = 0;
+        int j = start;
+        byte separator = 0;
+        while (groupCount < MAX_GROUPS) {
+            int total = count;
+            while (j < limit && isDigit(window.get(j))) {
+                if (total < MAX_DIGITS) {
+                    digits[total] = window.get(j);
+                }
+                total++;
+                j++;
+            }
+            if (total > MAX_DIGITS) {
+                break;
+            }
+            count = total;
+            ends[groupCount] = j;
+            totals[groupCount] = count;
+            groupCount++;
+
+            // Continua somente com o mesmo separador seguido de dígito
+            if (j + 1 >= limit) {
+                break;
+            }
+            byte b = window.get(j);
+            if ((b != ' ' && b != '-') || (separator != 0 && b != separator) || !isDigit(window.get(j + 1))) {
+                break;
+            }
+            separator = b;
+            j++;
+        }
+
+        for (int groups = groupCount; groups > 0; groups--) {
+            int total = totals[groups - 1];
+            if (isCardShape(totals, groups) && Luhn.isValid(digits, 0, total) && matchesBin(digits, total)) {
+                return groups;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Verifica se os primeiros grupos formam um cartão: um grupo de 12 a 19
+     * dígitos, grupos de 4 com o último de 1 a 4 dígitos, ou 4-6-4 e 4-6-5.
+     */
+    private static boolean isCardShape(int[] totals, int groups) {
+        int total = totals[groups - 1];
+        if (total < MIN_DIGITS) {
+            return false;
+        }
+        if (groups == 1) {
+            return true;
+        }
+        if (totals[0] != 4) {
+            return false;
+        }
+        int last = total - totals[groups - 2];
+        if (groups == 3 && totals[1] == 10 && (last == 4 || last == 5)) {
+            return true;
+        }
+        for (int g = 1; g < groups - 1; g++) {
+            if (totals[g] - totals[g - 1] != 4) {
+                return false;
+            }
+        }
+        return last <= 4;
+    }
+
+    /**
+     * Aplica o filtro de BIN.
+     */
+    private boolean matchesBin(byte[] digits, int count) {
+        if (binTable != null) {
+            int bin = 0;
+            for (int k = 0; k < 8; k++) {
+                bin = bin * 10 + (digits[k] - '0');
+            }
+            return binTable.find(bin) != BinTable.NOT_FOUND;
+        }
+        int prefix = 0;
+        for (int k = 0; k < 6; k++) {
+            prefix = prefix * 10 + (digits[k] - '0');
+        }
+        return CreditCardValidator.getBrand(prefix, count) != null;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length, byte[] buffer) throws IOException {
+        while (length > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, length));
+            if (read < 0) {
+                return;
+            }
+            out.write(buffer, 0, read);
+            length -= read;
+        }
+    }
+
+    private static void skip(InputStream in, long length) throws IOException {
+        while (length > 0) {
+            long skipped = in.skip(length);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    return;
+                }
+                skipped = 1;
+            }
+            length -= skipped;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contagem de ocorrências de números de cartão em uma janela deslizante,
+ * para detecção de velocidade e duplicidade em autorizações.
+ *
+ * A janela é dividida em intervalos (buckets) mantidos em um anel. No modo
+ * aproximado cada intervalo é um count-min sketch: a memória é fixa
+ * (intervalos x linhas x largura contadores) independentemente do tráfego e
+ * a contagem nunca é menor que a real, podendo ser maior por colisões. No
+ * modo exato cada intervalo guarda um contador por cartão, o que é útil em
+ * testes e janelas pequenas.
+ *
+ * Os contadores de todos os intervalos são alocados na criação e reutilizados.
+ * As atualizações não usam locks: os contadores são atômicos e, ao virar o
+ * intervalo, uma única thread reivindica a posição expirada do anel com
+ * compare-and-set no número do intervalo e a zera no lugar; as demais
+ * aguardam sem alocar. Apenas um incremento atrasado por uma janela inteira
+ * poderia cair no intervalo que reutiliza a posição. A janela efetiva cobre o
+ * intervalo atual e os anteriores até completar o tamanho informado, com
+ * granularidade de um intervalo.
+ *
+ * No modo aproximado o número é lido e espalhado diretamente do texto, sem
+ * criar Strings; apenas o modo exato guarda os dígitos como chave.
+ *
+ * @author Fabio Oliveira
+ */
+public class PanVelocityCounter {
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int buckets;
+    private final int depth;
+    private final int widthMask;
+    private final boolean exact;
+
+    // Posição do anel nunca usada
+    private static final long EMPTY = Long.MIN_VALUE + 1;
+
+    // Posição sendo zerada pela thread que virou o intervalo
+    private static final long RESETTING = Long.MIN_VALUE;
+
+    // Intervalo (tempo / duração do intervalo) de cada posição do anel
+    private final AtomicLongArray epochs;
+
+    // Ocorrências de cada posição do anel (sketch no modo aproximado, mapa no exato)
+    private final AtomicIntegerArray[] sketches;
+    private final ConcurrentHashMap<String, AtomicInteger>[] counts;
+
+    /**
+     * Cria um contador aproximado que usa o relógio do sistema.
+     *
+     * @param window Tamanho da janela
+     * @param buckets Quantidade de intervalos em que a janela é dividida
+     * @param width Contadores por linha do sketch (arredondado para potência de 2)
+     * @param depth Linhas do sketch (funções de hash)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public PanVelocityCounter(Duration window, int buckets, int width, int depth) {
+        this(window, buckets, width, depth, Clock.systemUTC());
+    }
+
+    /**
+     * Cria um contador aproximado com relógio definido.
+     *
+     * @param window Tamanho da janela
+     * @param buckets Quantidade de intervalos em que a janela é dividida
+     * @param width Contadores por linha do sketch (arredondado para potência de 2)
+     * @param depth Linhas do sketch (funções de hash)
+     * @param clock Relógio
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public PanVelocityCounter(Duration window, int buckets, int width, int depth, Clock clock) {
+        this(window, buckets, width, depth, clock, false);
+    }
+
+    private PanVelocityCounter(Duration window, int buckets, int width, int depth, Clock clock, boolean exact) {
+        if (window == null || clock == null) {
+            throw new IllegalArgumentException("Janela e relógio não podem ser nulos");
+        }
+        if (buckets < 1 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Janela deve ter ao menos 1 ms por intervalo");
+        }
+        if (width < 1 || width > 1 << 24 || depth < 1 || depth > 16) {
+            throw new IllegalArgumentException("Largura deve estar entre 1 e 2^24 e linhas entre 1 e 16");
+        }
+        this.clock = clock;
+        this.bucketMillis = window.toMillis() / buckets;
+        this.buckets = buckets;
+        this.depth = depth;
+        this.widthMask = width <= 1 ? 0 : Integer.highestOneBit(width - 1) * 2 - 1;
+        this.exact = exact;
+        this.epochs = new AtomicLongArray(buckets);
+        for (int i = 0; i < buckets; i++) {
+            epochs.set(i, EMPTY);
+        }
+        if (exact) {
+            this.sketches = null;
+            this.counts = newCounts(buckets);
+        } else {
+            this.sketches = new AtomicIntegerArray[buckets];
+            for (int i = 0; i < buckets; i++) {
+                sketches[i] = new AtomicIntegerArray(depth * (widthMask + 1));
+            }
+            this.counts = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, AtomicInteger>[] newCounts(int buckets) {
+        ConcurrentHashMap<String, AtomicInteger>[] counts = new ConcurrentHashMap[buckets];
+        for (int i = 0; i < buckets; i++) {
+            counts[i] = new ConcurrentHashMap<>();
+        }
+        return counts;
+    }
+
+    /**
+     * Cria um contador exato (um contador por cartão em cada intervalo).
+     *
+     * @param window Tamanho da janela
+     * @param buckets Quantidade de intervalos em que a janela é dividida
+     * @param clock Relógio
+     * @return Contador exato
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static PanVelocityCounter exact(Duration window, int buckets, Clock clock) {
+        return new PanVelocityCounter(window, buckets, 1, 1, clock, true);
+    }
+
+    /**
+     * Registra uma ocorrência do cartão.
+     *
+     * @param cardNumber Número do cartão já validado (caracteres não numéricos são ignorados)
+     * @return Ocorrências do cartão na janela, incluindo esta
+     * @throws InvalidDocumentException se o número não tiver de 12 a 19 dígitos
+     */
+    public int record(CharSequence cardNumber) throws InvalidDocumentException {
+        checkLength(cardNumber);
+        long epoch = clock.millis() / bucketMillis;
+        int slot = current(epoch);
+
+        if (exact) {
+            String digits = CardBrand.cleanPan(cardNumber);
+            counts[slot].computeIfAbsent(digits, key -> new AtomicInteger()).incrementAndGet();
+            return countExact(digits, epoch);
+        }
+        long hash = hash(cardNumber);
+        AtomicIntegerArray sketch = sketches[slot];
+        int width = widthMask + 1;
+        for (int row = 0; row < depth; row++) {
+            sketch.incrementAndGet(row * width + index(hash, row));
+        }
+        return countSketch(hash, epoch);
+    }
+
+    /**
+     * Consulta as ocorrências do cartão na janela, sem registrar.
+     *
+     * @param cardNumber Número do cartão (caracteres não numéricos são ignorados)
+     * @return Ocorrências do cartão na janela (no modo aproximado, pode ser maior que a real)
+     * @throws InvalidDocumentException se o número não tiver de 12 a 19 dígitos
+     */
+    public int count(CharSequence cardNumber) throws InvalidDocumentException {
+        checkLength(cardNumber);
+        long epoch = clock.millis() / bucketMillis;
+        return exact ? countExact(CardBrand.cleanPan(cardNumber), epoch) : countSketch(hash(cardNumber), epoch);
+    }
+
+    /**
+     * @return true se o contador for exato
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Soma as ocorrências exatas nos intervalos ainda dentro da janela.
+     */
+    private int countExact(String digits, long epoch) {
+        int total = 0;
+        for (int i = 0; i < buckets; i++) {
+            if (inWindow(i, epoch)) {
+                AtomicInteger value = counts[i].get(digits);
+                total += value == null ? 0 : value.get();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Mínimo entre as linhas da soma dos intervalos ainda dentro da janela.
+     */
+    private int countSketch(long hash, long epoch) {
+        int width = widthMask + 1;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int position = row * width + index(hash, row);
+            int total = 0;
+            for (int i = 0; i < buckets; i++) {
+                if (inWindow(i, epoch)) {
+                    total += sketches[i].get(position);
+                }
+            }
+            min = Math.min(min, total);
+        }
+        return min;
+    }
+
+    private boolean inWindow(int slot, long epoch) {
+        long slotEpoch = epochs.get(slot);
+        return slotEpoch > epoch - buckets && slotEpoch <= epoch;
+    }
+
+    /**
+     * Obtém a posição do anel do intervalo, reivindicando e zerando a posição expirada.
+     */
+    private int current(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) buckets);
+        while (true) {
+            long slotEpoch = epochs.get(slot);
+            if (slotEpoch >= epoch) {
+                // Um intervalo mais novo só existe se esta thread atrasou; conta nele
+                return slot;
+            }
+            if (slotEpoch == RESETTING) {
+                // Outra thread está zerando a posição
+                Thread.yield();
+            } else if (epochs.compareAndSet(slot, slotEpoch, RESETTING)) {
+                reset(slot);
+                epochs.set(slot, epoch);
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Zera os contadores de uma posição do anel.
+     */
+    private void reset(int slot) {
+        if (exact) {
+            counts[slot].clear();
+            return;
+        }
+        AtomicIntegerArray sketch = sketches[slot];
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.lazySet(i, 0);
+        }
+    }
+
+    /**
+     * Posição da linha no sketch (hashing duplo sobre um hash de 64 bits).
+     */
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & widthMask;
+    }
+
+    /**
+     * Hash de 64 bits dos dígitos (FNV-1a seguido de mistura do SplitMix64).
+     */
+    private static long hash(CharSequence cardNumber) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                h ^= c;
+                h *= 0x100000001b3L;
+            }
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * Verifica a quantidade de dígitos do número.
+     */
+    private static void checkLength(CharSequence cardNumber) throws InvalidDocumentException {
+        if (cardNumber == null) {
+            throw new InvalidDocumentException("Número do cartão não pode ser nulo");
+        }
+        if (CardBrand.countPanDigits(cardNumber) < 0) {
+            throw new InvalidDocumentException("Número do cartão deve ter de "
+                + CardBrand.MIN_PAN_DIGITS + " a " + CardBrand.MAX_PAN_DIGITS + " dígitos");
+        }
+    }
+}
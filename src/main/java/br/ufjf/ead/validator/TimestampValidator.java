@@ -0,0 +1,192 @@
+package br.ufjf.ead.validator;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+
+/**
+ * Validador de data e hora no formato ISO-8601 (ex: 2026-10-16T12:34:56.789-03:00).
+ *
+ * A interpretação é feita caractere a caractere, sem DateTimeFormatter, sem
+ * alocação e sem exceções para entradas inválidas; apenas
+ * {@link #validate(String)} lança exceção. A data segue as regras de
+ * {@link DateValidator} (anos de 1900 a 2100, anos bissextos).
+ *
+ * Formato aceito: {@code yyyy-MM-dd'T'HH:mm[:ss[.fração]][offset]}, com
+ * fração de 1 a 9 dígitos (separada por '.' ou ','), offset 'Z', ±HH:mm,
+ * ±HHmm ou ±HH (até ±18:00) e 'T' maiúsculo ou minúsculo. Sem offset, o
+ * horário é considerado UTC.
+ *
+ * @author Fabio Oliveira
+ */
+public class TimestampValidator {
+
+    /** Valor retornado pelas conversões para datas e horas inválidas. */
+    public static final long INVALID_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int MAX_OFFSET_HOURS = 18;
+
+    // Multiplicador da fração conforme a quantidade de dígitos
+    private static final long[] FRACTION_SCALE = {
+        0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    /**
+     * Valida uma data e hora.
+     *
+     * @param timestamp Data e hora a ser validada
+     * @return true se é válida, false caso contrário
+     */
+    public static boolean isValid(CharSequence timestamp) {
+        return toEpochNanos(timestamp) != INVALID_TIMESTAMP;
+    }
+
+    /**
+     * Valida uma data e hora e lança exceção se inválida.
+     *
+     * @param timestamp Data e hora a ser validada
+     * @throws InvalidDocumentException se a data e hora for inválida
+     */
+    public static void validate(String timestamp) throws InvalidDocumentException {
+        if (timestamp == null || timestamp.trim().isEmpty()) {
+            throw new InvalidDocumentException("Data e hora não pode ser nula ou vazia");
+        }
+        if (!isValid(timestamp)) {
+            throw new InvalidDocumentException("Data e hora inválida. Use o formato ISO-8601 (ex: 2026-10-16T12:34:56.789-03:00)");
+        }
+    }
+
+    /**
+     * Converte uma data e hora em milissegundos desde 01/01/1970 UTC.
+     *
+     * @param timestamp Data e hora no formato ISO-8601
+     * @return Milissegundos desde 01/01/1970 UTC (fração truncada), ou {@link #INVALID_TIMESTAMP}
+     */
+    public static long toEpochMillis(CharSequence timestamp) {
+        long nanos = toEpochNanos(timestamp);
+        return nanos == INVALID_TIMESTAMP ? INVALID_TIMESTAMP : Math.floorDiv(nanos, NANOS_PER_MILLI);
+    }
+
+    /**
+     * Converte uma data e hora em nanossegundos desde 01/01/1970 UTC.
+     *
+     * @param timestamp Data e hora no formato ISO-8601
+     * @return Nanossegundos desde 01/01/1970 UTC, ou {@link #INVALID_TIMESTAMP}
+     */
+    public static long toEpochNanos(CharSequence timestamp) {
+        if (timestamp == null) {
+            return INVALID_TIMESTAMP;
+        }
+        int length = timestamp.length();
+
+        // Data: yyyy-MM-dd
+        if (length < 16
+            || timestamp.charAt(4) != '-' || timestamp.charAt(7) != '-'
+            || (timestamp.charAt(10) != 'T' && timestamp.charAt(10) != 't')
+            || timestamp.charAt(13) != ':') {
+            return INVALID_TIMESTAMP;
+        }
+        int year = digits(timestamp, 0, 4);
+        int month = digits(timestamp, 5, 2);
+        int day = digits(timestamp, 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return INVALID_TIMESTAMP;
+        }
+        int yyyymmdd = DateValidator.toYyyymmdd(year, month, day);
+        if (yyyymmdd == DateValidator.INVALID_DATE) {
+            return INVALID_TIMESTAMP;
+        }
+
+        // Hora: HH:mm[:ss[.fração]]
+        int hour = digits(timestamp, 11, 2);
+        int minute = digits(timestamp, 14, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID_TIMESTAMP;
+        }
+        int position = 16;
+        int second = 0;
+        long nanos = 0;
+        if (position < length && timestamp.charAt(position) == ':') {
+            second = digits(timestamp, position + 1, 2);
+            if (second < 0 || second > 59) {
+                return INVALID_TIMESTAMP;
+            }
+            position += 3;
+
+            if (position < length && (timestamp.charAt(position) == '.' || timestamp.charAt(position) == ',')) {
+                position++;
+                int fractionDigits = 0;
+                while (position < length && isDigit(timestamp.charAt(position))) {
+                    if (++fractionDigits > 9) {
+                        return INVALID_TIMESTAMP;
+                    }
+                    nanos = nanos * 10 + (timestamp.charAt(position) - '0');
+                    position++;
+                }
+                if (fractionDigits == 0) {
+                    return INVALID_TIMESTAMP;
+                }
+                nanos *= FRACTION_SCALE[fractionDigits];
+            }
+        }
+
+        // Offset: Z, ±HH:mm, ±HHmm ou ±HH
+        int offsetSeconds = 0;
+        if (position < length) {
+            char c = timestamp.charAt(position);
+            if (c == 'Z' || c == 'z') {
+                position++;
+            } else if (c == '+' || c == '-') {
+                int offsetHours = digits(timestamp, position + 1, 2);
+                int offsetMinutes = 0;
+                position += 3;
+                if (position < length) {
+                    if (timestamp.charAt(position) == ':') {
+                        position++;
+                    }
+                    offsetMinutes = digits(timestamp, position, 2);
+                    position += 2;
+                }
+                if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59
+                    || offsetHours * 60 + offsetMinutes > MAX_OFFSET_HOURS * 60) {
+                    return INVALID_TIMESTAMP;
+                }
+                offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (c == '-' ? -1 : 1);
+            } else {
+                return INVALID_TIMESTAMP;
+            }
+        }
+        if (position != length) {
+            return INVALID_TIMESTAMP;
+        }
+
+        long epochSeconds = (long) DateValidator.toEpochDay(yyyymmdd) * SECONDS_PER_DAY
+            + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return epochSeconds * NANOS_PER_SECOND + nanos;
+    }
+
+    /**
+     * Lê um número com quantidade fixa de dígitos.
+     *
+     * @return Valor, ou -1 se algum caractere não for dígito ou o texto acabar
+     */
+    private static int digits(CharSequence text, int start, int count) {
+        if (start + count > text.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
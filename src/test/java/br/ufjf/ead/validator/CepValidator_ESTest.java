@@ -114,7 +114,7 @@ public class CepValidator_ESTest extends CepValidator_ESTest_scaffolding {
   public void test18()  throws Throwable  {
       Random.setNextRandom(2147483645);
       String string0 = CepValidator.generateValidCep();
-      assertEquals("56787-654", string0);
+      assertEquals("50010-010", string0);
   }
 
   @Test(timeout = 4000)
@@ -25,31 +25,31 @@ public class CreditCardValidator_ESTest extends CreditCardValidator_ESTest_scaff
   @Test(timeout = 4000)
   public void test01()  throws Throwable  {
       String string0 = CreditCardValidator.generateTestCard("Xlhv> !h.uRe0");
-      assertEquals("4012345678901231", string0);
+      assertEquals("4012345678901239", string0);
   }
 
   @Test(timeout = 4000)
   public void test02()  throws Throwable  {
       String string0 = CreditCardValidator.generateTestCard("Discover");
-      assertEquals("6011012345678908", string0);
+      assertEquals("6011012345678907", string0);
   }
 
   @Test(timeout = 4000)
   public void test03()  throws Throwable  {
       String string0 = CreditCardValidator.generateTestCard("amex");
-      assertEquals("340123456789012", string0);
+      assertEquals("340123456789014", string0);
   }
 
   @Test(timeout = 4000)
   public void test04()  throws Throwable  {
       String string0 = CreditCardValidator.generateTestCard("visa");
-      assertEquals("4012345678901231", string0);
+      assertEquals("4012345678901239", string0);
   }
 
   @Test(timeout = 4000)
   public void test05()  throws Throwable  {
       String string0 = CreditCardValidator.generateTestCard("mastercard");
-      assertEquals("5501234567890127", string0);
+      assertEquals("5501234567890122", string0);
   }
 
   @Test(timeout = 4000)
@@ -0,0 +1,138 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.AddressConsistencyValidator;
+import br.ufjf.ead.validator.CepDirectory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para AddressConsistencyValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class AddressConsistencyValidator_LLMTest {
+
+    private static final String RANGES =
+        "36000-000;36099-999;MG;3136702;Juiz de Fora\n"
+        + "01000-000;05999-999;SP;3550308;São Paulo\n";
+
+    @TempDir
+    static Path tempDir;
+
+    private static AddressConsistencyValidator validator;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        Path file = tempDir.resolve("faixas.bin");
+        CepDirectory.compile(new BufferedReader(new StringReader(RANGES)), file);
+        validator = new AddressConsistencyValidator(CepDirectory.open(file));
+    }
+
+    // --- Endereço individual ---
+
+    // Testa endereço consistente
+    @Test
+    void testEnderecoConsistente() {
+        assertEquals(0, validator.check("36036-900", "MG", "Juiz de Fora"));
+        assertEquals(0, validator.check("01310-100", " sp ", "SAO PAULO"));
+    }
+
+    // Testa UF divergente
+    @Test
+    void testUfDivergente() {
+        assertEquals(AddressConsistencyValidator.UF_MISMATCH, validator.check("36036-900", "RJ", "Juiz de Fora"));
+        assertEquals(AddressConsistencyValidator.UF_MISMATCH, validator.check("36036-900", "Minas", null));
+    }
+
+    // Testa cidade divergente
+    @Test
+    void testCidadeDivergente() {
+        assertEquals(AddressConsistencyValidator.CITY_MISMATCH, validator.check("36036-900", "MG", "Juiz de For"));
+        assertEquals(AddressConsistencyValidator.UF_MISMATCH | AddressConsistencyValidator.CITY_MISMATCH,
+            validator.check("01310-100", "MG", "Juiz de Fora"));
+    }
+
+    // Testa CEP inválido e CEP fora das faixas
+    @Test
+    void testCepInvalidoOuDesconhecido() {
+        assertEquals(AddressConsistencyValidator.INVALID_CEP, validator.check("11111-111", "SP", "São Paulo"));
+        assertEquals(AddressConsistencyValidator.INVALID_CEP, validator.check(null, "SP", null));
+        assertEquals(AddressConsistencyValidator.UNKNOWN_CEP, validator.check("37540-970", "MG", "Santa Rita"));
+        assertEquals(0, validator.check("37540-970", "MG", null));
+    }
+
+    // Testa validador apenas de UF
+    @Test
+    void testApenasUf() {
+        AddressConsistencyValidator ufOnly = new AddressConsistencyValidator();
+        assertEquals(0, ufOnly.check("90010-150", "RS", "Qualquer"));
+        assertEquals(AddressConsistencyValidator.UF_MISMATCH, ufOnly.check(90010150, "SC", null));
+    }
+
+    // --- Lote ---
+
+    // Testa validação em lote de CSV
+    @Test
+    void testLote() throws IOException {
+        String csv = "nome;cep;cidade;uf\n"
+            + "Ana;36036-900;Juiz de Fora;MG\n"
+            + "Bia;36036-900;Juiz de Fora;SP\n"
+            + "Caio;01310-100;São Paulo;SP\n"
+            + "Davi;123;São Paulo;SP\n"
+            + "Eva;01310-100\n";
+        List<long[]> mismatches = new ArrayList<>();
+        long rows = validator.checkCsv(new BufferedReader(new StringReader(csv)), true, 1, 3, 2,
+            (line, cep, flags) -> mismatches.add(new long[] {line, cep, flags}));
+
+        assertEquals(5, rows);
+        assertEquals(3, mismatches.size());
+        assertArrayEquals(new long[] {3, 36036900, AddressConsistencyValidator.UF_MISMATCH}, mismatches.get(0));
+        assertArrayEquals(new long[] {5, -1, AddressConsistencyValidator.INVALID_CEP}, mismatches.get(1));
+        assertArrayEquals(new long[] {6, 1310100, AddressConsistencyValidator.MALFORMED_ROW}, mismatches.get(2));
+    }
+
+    // Testa que linhas com colunas faltando são distinguidas de CEPs inválidos
+    @Test
+    void testLinhaIncompleta() throws IOException {
+        String csv = "36036-900\n;MG\n123;MG\n";
+        List<long[]> mismatches = new ArrayList<>();
+        validator.checkCsv(new BufferedReader(new StringReader(csv)), false, 0, 1, -1,
+            (line, cep, flags) -> mismatches.add(new long[] {line, cep, flags}));
+
+        assertEquals(3, mismatches.size());
+        assertArrayEquals(new long[] {1, 36036900, AddressConsistencyValidator.MALFORMED_ROW}, mismatches.get(0));
+        assertArrayEquals(new long[] {2, -1, AddressConsistencyValidator.INVALID_CEP}, mismatches.get(1));
+        assertArrayEquals(new long[] {3, -1, AddressConsistencyValidator.INVALID_CEP}, mismatches.get(2));
+    }
+
+    // Testa lote sem coluna de cidade
+    @Test
+    void testLoteSemCidade() throws IOException {
+        String csv = "36036-900;RJ\n01310-100;SP\n";
+        int[] count = new int[1];
+        validator.checkCsv(new BufferedReader(new StringReader(csv)), false, 0, 1, -1,
+            (line, cep, flags) -> count[0]++);
+        assertEquals(1, count[0]);
+    }
+
+    // Testa colunas inválidas
+    @Test
+    void testColunasInvalidas() {
+        String csv = "36036-900;MG;Juiz de Fora\n";
+        AddressConsistencyValidator.MismatchHandler handler = (line, cep, flags) -> fail("linha " + line);
+        assertThrows(IllegalArgumentException.class,
+            () -> validator.checkCsv(new BufferedReader(new StringReader(csv)), false, -1, 1, 2, handler));
+        assertThrows(IllegalArgumentException.class,
+            () -> validator.checkCsv(new BufferedReader(new StringReader(csv)), false, 0, -2, 2, handler));
+        assertThrows(IllegalArgumentException.class,
+            () -> validator.checkCsv(new BufferedReader(new StringReader(csv)), false, 0, 1, -2, handler));
+    }
+}
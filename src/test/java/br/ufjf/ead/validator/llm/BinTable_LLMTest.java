@@ -0,0 +1,116 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.BinTable;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para BinTable.
+ *
+ * @author Fabio Oliveira
+ */
+public class BinTable_LLMTest {
+
+    private static final String CSV =
+        "bin_inicial;bin_final;bandeira;emissor;pais;tipo\n"
+        + "411111;411111;Visa;Banco A;BR;credito\n"
+        + "41111200;41111299;Visa;Banco B;BR;débito\n"
+        + "550000;559999;MasterCard;Banco C;US;pre-pago\n"
+        + "37828224;37828224;American Express;Banco D;US;\n";
+
+    private static BinTable load(String csv) throws IOException {
+        return BinTable.load(new BufferedReader(new StringReader(csv)));
+    }
+
+    // --- Consulta ---
+
+    // Testa consulta de PAN com faixa de 6 dígitos
+    @Test
+    void testFaixaDe6Digitos() throws IOException {
+        BinTable table = load(CSV);
+        int range = table.find("4111 1111 1111 1111");
+        assertNotEquals(BinTable.NOT_FOUND, range);
+        assertEquals("Visa", table.getBrandName(table.getRangeBrandId(range)));
+        assertEquals("Banco A", table.getIssuer(range));
+        assertEquals("BR", table.getCountry(range));
+        assertEquals(BinTable.TYPE_CREDIT, table.getCardType(range));
+    }
+
+    // Testa consulta de PAN com faixa de 8 dígitos
+    @Test
+    void testFaixaDe8Digitos() throws IOException {
+        BinTable table = load(CSV);
+        int range = table.find("4111125000000000");
+        assertEquals("Banco B", table.getIssuer(range));
+        assertEquals(BinTable.TYPE_DEBIT, table.getCardType(range));
+        assertEquals(BinTable.NOT_FOUND, table.find("4111130000000000"));
+    }
+
+    // Testa identificador de bandeira compartilhado entre faixas
+    @Test
+    void testIdentificadorDeBandeira() throws IOException {
+        BinTable table = load(CSV);
+        assertEquals(3, table.getBrandCount());
+        assertEquals(table.getBrandId("4111111111111111"), table.getBrandId("4111120000000000"));
+        assertEquals("MasterCard", table.getBrandName(table.getBrandId("5555555555554444")));
+        assertEquals(BinTable.TYPE_PREPAID, table.getCardType(table.find(55555555)));
+        assertEquals(BinTable.TYPE_UNKNOWN, table.getCardType(table.find("378282246310005")));
+    }
+
+    // Testa PANs não encontrados
+    @Test
+    void testNaoEncontrado() throws IOException {
+        BinTable table = load(CSV);
+        assertEquals(BinTable.NOT_FOUND, table.find("1234567890123456"));
+        assertEquals(BinTable.NOT_FOUND, table.find("411111"));
+        assertEquals(BinTable.NOT_FOUND, table.find((CharSequence) null));
+        assertEquals(BinTable.NOT_FOUND, table.getBrandId("9999999999999999"));
+        assertEquals(BinTable.NOT_FOUND, table.find(0));
+    }
+
+    // --- Carregamento ---
+
+    // Testa faixas sobrepostas
+    @Test
+    void testFaixasSobrepostas() {
+        assertThrows(IOException.class, () -> load("411111;411111;Visa;A;BR;\n41111150;41111160;Visa;B;BR;\n"));
+    }
+
+    // Testa BIN e tipo inválidos
+    @Test
+    void testLinhaInvalida() {
+        assertThrows(IOException.class, () -> load("41111;41111;Visa;A;BR;\n"));
+        assertThrows(IOException.class, () -> load("411111;411111;Visa;A;BR;outro\n"));
+        assertThrows(IOException.class, () -> load("411111;411111;Visa\n"));
+        IOException error = assertThrows(IOException.class, () -> load("411111;411111;Visa;A;BR;\nbin;fim\n"));
+        assertTrue(error.getMessage().startsWith("Linha 2:"), error.getMessage());
+    }
+
+    // Testa que linhas com espaço ou BOM no início não são confundidas com cabeçalho
+    @Test
+    void testLinhaComEspacoOuBom() throws IOException {
+        BinTable table = load("\uFEFF 411111;411111;Visa;A;BR;\n 555555;555555;Mastercard;B;BR;credito\n");
+        assertEquals("Visa", table.getBrandName(table.getBrandId("4111111111111111")));
+        assertEquals("Mastercard", table.getBrandName(table.getBrandId("5555555555554444")));
+    }
+
+    // --- Troca da tabela padrão ---
+
+    // Testa a troca atômica da tabela padrão
+    @Test
+    void testTrocaDaTabelaPadrao() throws IOException {
+        BinTable previous = BinTable.getDefault();
+        try {
+            BinTable table = load(CSV);
+            BinTable.setDefault(table);
+            assertSame(table, BinTable.getDefault());
+            assertEquals(4, BinTable.getDefault().size());
+            assertThrows(IllegalArgumentException.class, () -> BinTable.setDefault(null));
+        } finally {
+            BinTable.setDefault(previous);
+        }
+    }
+}
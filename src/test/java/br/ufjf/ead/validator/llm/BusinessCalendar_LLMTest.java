@@ -0,0 +1,93 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.BusinessCalendar;
+import br.ufjf.ead.validator.DateValidator;
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para BusinessCalendar.
+ *
+ * @author Fabio Oliveira
+ */
+public class BusinessCalendar_LLMTest {
+
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.national();
+
+    private static int yyyymmdd(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    // --- Feriados ---
+
+    // Testa feriados fixos e móveis de 2024
+    @Test
+    void testFeriados2024() {
+        int[] holidays = {20240101, 20240212, 20240213, 20240329, 20240421, 20240501, 20240530,
+                          20240907, 20241012, 20241102, 20241115, 20241120, 20241225};
+        for (int holiday : holidays) {
+            assertFalse(CALENDAR.isBusinessDay(holiday), String.valueOf(holiday));
+        }
+        assertTrue(CALENDAR.isBusinessDay(20240214));
+        assertTrue(CALENDAR.isBusinessDay(20231120));
+        assertFalse(CALENDAR.isBusinessDay(20240601));
+        assertFalse(CALENDAR.isBusinessDay(20240602));
+    }
+
+    // Testa datas em texto e inválidas
+    @Test
+    void testDatasEmTexto() throws InvalidDocumentException {
+        assertFalse(CALENDAR.isBusinessDay("2026-04-03"));
+        assertTrue(CALENDAR.isBusinessDay("06/04/2026"));
+        assertThrows(InvalidDocumentException.class, () -> CALENDAR.isBusinessDay("30/02/2026"));
+        assertThrows(IllegalArgumentException.class, () -> CALENDAR.isBusinessDay(18991231));
+    }
+
+    // Testa feriados estaduais e municipais
+    @Test
+    void testFeriadosAdicionais() {
+        BusinessCalendar saoPaulo = CALENDAR.withAnnualHoliday(7, 9).withHoliday(20250125);
+        assertFalse(saoPaulo.isBusinessDay(20250709));
+        assertTrue(CALENDAR.isBusinessDay(20250709));
+        assertFalse(saoPaulo.isBusinessDay(20260709));
+        assertThrows(IllegalArgumentException.class, () -> CALENDAR.withAnnualHoliday(2, 30));
+    }
+
+    // --- Aritmética ---
+
+    // Testa soma e subtração de dias úteis
+    @Test
+    void testSomaDeDiasUteis() {
+        assertEquals(20240214, CALENDAR.addBusinessDays(20240209, 1));
+        assertEquals(20240209, CALENDAR.addBusinessDays(20240214, -1));
+        assertEquals(20240210, CALENDAR.addBusinessDays(20240210, 0));
+        assertEquals(20241231, CALENDAR.addBusinessDays(20241227, 2));
+        assertEquals(20250102, CALENDAR.addBusinessDays(20241231, 1));
+        assertThrows(IllegalArgumentException.class, () -> CALENDAR.addBusinessDays(21001230, 5));
+        assertThrows(IllegalArgumentException.class, () -> CALENDAR.addBusinessDays(19000102, -5));
+    }
+
+    // Testa soma e contagem contra um cálculo dia a dia
+    @Test
+    void testEquivalenciaDiaADia() {
+        LocalDate start = LocalDate.of(1999, 12, 20);
+        for (int days = -400; days <= 400; days += 7) {
+            LocalDate expected = start;
+            int step = days >= 0 ? 1 : -1;
+            for (int remaining = Math.abs(days); remaining > 0; ) {
+                expected = expected.plusDays(step);
+                if (expected.getDayOfWeek() != DayOfWeek.SATURDAY && expected.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && CALENDAR.isBusinessDay(yyyymmdd(expected))) {
+                    remaining--;
+                }
+            }
+            int result = CALENDAR.addBusinessDays(yyyymmdd(start), days);
+            assertEquals(yyyymmdd(expected), result, "dias " + days);
+            assertEquals(days, CALENDAR.countBusinessDays(yyyymmdd(start), result), "dias " + days);
+        }
+        assertEquals(DateValidator.toEpochDay(20000103), DateValidator.toEpochDay(CALENDAR.addBusinessDays(19991231, 1)));
+    }
+}
@@ -0,0 +1,99 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CardBrand;
+import br.ufjf.ead.validator.CreditCardValidator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para CardBrand e a tabela de bandeiras de CreditCardValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class CardBrand_LLMTest {
+
+    // Regras originais, verificadas em ordem: prefixos e comprimentos de cada bandeira
+    private static final String[][] PREFIXES = {
+        {"4"},
+        {"51", "52", "53", "54", "55", "2221", "2222", "2223", "2224", "2225", "2226", "2227", "2228", "2229",
+         "223", "224", "225", "226", "227", "228", "229", "23", "24", "25", "26", "27"},
+        {"34", "37"},
+        {"300", "301", "302", "303", "304", "305", "309", "36", "38", "39"},
+        {"6011", "622126", "622127", "622128", "622129", "62218", "62219", "6222", "6223", "6224", "6225",
+         "6226", "6227", "6228", "62290", "62291", "622920", "622921", "622922", "622923", "622924", "622925",
+         "644", "645", "646", "647", "648", "649", "65"},
+        {"3528", "3529", "353", "354", "355", "356", "357", "358"}
+    };
+    private static final int[][] LENGTHS = {{13, 16, 19}, {16}, {15}, {14, 16, 19}, {16, 19}, {15, 16}};
+    private static final String[] NAMES = {"Visa", "MasterCard", "American Express", "Diners Club", "Discover", "JCB"};
+
+    private static String reference(String number) {
+        for (int b = 0; b < NAMES.length; b++) {
+            boolean validLength = false;
+            for (int length : LENGTHS[b]) {
+                validLength |= number.length() == length;
+            }
+            if (!validLength) {
+                continue;
+            }
+            for (String prefix : PREFIXES[b]) {
+                if (number.startsWith(prefix)) {
+                    return NAMES[b];
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String number(int prefix, int length) {
+        StringBuilder number = new StringBuilder(String.format("%06d", prefix));
+        while (number.length() < length) {
+            number.append('7');
+        }
+        return number.toString();
+    }
+
+    // --- Tabela de bandeiras ---
+
+    // Testa que a tabela equivale às regras originais
+    @Test
+    void testEquivalenciaComRegras() {
+        for (int prefix = 0; prefix < 1_000_000; prefix += 13) {
+            for (int length = 12; length <= 19; length++) {
+                String number = number(prefix, length);
+                assertEquals(reference(number), CreditCardValidator.getCardBrand(number), number);
+            }
+        }
+    }
+
+    // Testa os limites das faixas de prefixo
+    @Test
+    void testLimitesDasFaixas() {
+        int[] prefixes = {222099, 222100, 272099, 272100, 279999, 280000, 305999, 306000, 309000, 352799,
+                          352800, 358999, 359000, 601099, 601100, 601199, 622125, 622126, 622925, 622926,
+                          643999, 644000, 659999, 660000};
+        for (int prefix : prefixes) {
+            for (int length = 12; length <= 19; length++) {
+                String number = number(prefix, length);
+                assertEquals(reference(number), CreditCardValidator.getCardBrand(number), number);
+            }
+        }
+    }
+
+    // --- Enum ---
+
+    // Testa a API com enum
+    @Test
+    void testEnum() {
+        assertEquals(CardBrand.VISA, CreditCardValidator.getBrand("4111 1111 1111 1111"));
+        assertEquals(CardBrand.AMEX, CreditCardValidator.getBrand("378282246310005"));
+        assertEquals(CardBrand.JCB, CreditCardValidator.getBrand("3530111333300000"));
+        assertNull(CreditCardValidator.getBrand("4111"));
+        assertNull(CreditCardValidator.getBrand("411111111111111"));
+        assertEquals("Diners Club", CardBrand.DINERS_CLUB.getName());
+        assertEquals(4, CardBrand.AMEX.getCvvLength());
+        assertEquals(3, CardBrand.MASTERCARD.getCvvLength());
+        assertTrue(CardBrand.VISA.isValidLength(13));
+        assertFalse(CardBrand.VISA.isValidLength(15));
+    }
+}
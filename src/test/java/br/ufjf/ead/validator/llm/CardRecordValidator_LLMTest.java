@@ -0,0 +1,94 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CardBrand;
+import br.ufjf.ead.validator.CardRecordValidator;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para CardRecordValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class CardRecordValidator_LLMTest {
+
+    // Relógio fixo em 15/03/2026
+    private static final CardRecordValidator VALIDATOR = new CardRecordValidator(
+        Clock.fixed(Instant.parse("2026-03-15T12:00:00Z"), ZoneOffset.UTC));
+
+    // --- Registros válidos ---
+
+    // Testa registros válidos com a bandeira no resultado
+    @Test
+    void testRegistroValido() {
+        int result = VALIDATOR.check("4111 1111 1111 1111", "12/28", "123");
+        assertTrue(CardRecordValidator.isValid(result));
+        assertEquals(CardBrand.VISA, CardRecordValidator.getBrand(result));
+
+        result = VALIDATOR.check("378282246310005", 3, 2026, "1234");
+        assertTrue(CardRecordValidator.isValid(result));
+        assertEquals(CardBrand.AMEX, CardRecordValidator.getBrand(result));
+    }
+
+    // --- Validade ---
+
+    // Testa que o cartão vale até o fim do mês de validade
+    @Test
+    void testVencimento() {
+        assertTrue(CardRecordValidator.isValid(VALIDATOR.check("5555555555554444", "03/2026", "123")));
+        int result = VALIDATOR.check("5555555555554444", "02/2026", "123");
+        assertEquals(CardRecordValidator.EXPIRED, CardRecordValidator.getFlags(result));
+        assertEquals(CardBrand.MASTERCARD, CardRecordValidator.getBrand(result));
+    }
+
+    // Testa validades mal formatadas
+    @Test
+    void testValidadeInvalida() {
+        for (String expiry : new String[] {null, "", "13/28", "00/28", "1228", "12/2", "12/028", "ab/28"}) {
+            int result = VALIDATOR.check("4111111111111111", expiry, "123");
+            assertEquals(CardRecordValidator.INVALID_EXPIRY, CardRecordValidator.getFlags(result), expiry);
+        }
+    }
+
+    // --- CVV ---
+
+    // Testa tamanho do CVV de acordo com a bandeira
+    @Test
+    void testCvv() {
+        assertEquals(CardRecordValidator.INVALID_CVV,
+            CardRecordValidator.getFlags(VALIDATOR.check("378282246310005", "12/28", "123")));
+        assertEquals(CardRecordValidator.INVALID_CVV,
+            CardRecordValidator.getFlags(VALIDATOR.check("4111111111111111", "12/28", "1234")));
+        assertEquals(CardRecordValidator.INVALID_CVV,
+            CardRecordValidator.getFlags(VALIDATOR.check("4111111111111111", "12/28", "12a")));
+        assertEquals(CardRecordValidator.INVALID_CVV,
+            CardRecordValidator.getFlags(VALIDATOR.check("4111111111111111", "12/28", null)));
+    }
+
+    // --- Número ---
+
+    // Testa número inválido e bandeira desconhecida combinados com outros erros
+    @Test
+    void testNumeroInvalido() {
+        int result = VALIDATOR.check("4111111111111112", "01/20", "12");
+        assertEquals(CardRecordValidator.INVALID_PAN | CardRecordValidator.EXPIRED | CardRecordValidator.INVALID_CVV,
+            CardRecordValidator.getFlags(result));
+        assertNull(CardRecordValidator.getBrand(result));
+
+        result = VALIDATOR.check("1234567812345670", "12/28", "123");
+        assertEquals(CardRecordValidator.UNKNOWN_BRAND, CardRecordValidator.getFlags(result));
+        assertEquals(CardRecordValidator.INVALID_PAN,
+            CardRecordValidator.getFlags(VALIDATOR.check(null, "12/28", "123")));
+        assertEquals(CardRecordValidator.INVALID_PAN,
+            CardRecordValidator.getFlags(VALIDATOR.check("41111111111111111111", "12/28", "123")));
+    }
+
+    // Testa relógio nulo
+    @Test
+    void testRelogioNulo() {
+        assertThrows(IllegalArgumentException.class, () -> new CardRecordValidator(null));
+    }
+}
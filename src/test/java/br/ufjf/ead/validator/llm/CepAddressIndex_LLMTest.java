@@ -0,0 +1,115 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.CepAddressIndex;
+import br.ufjf.ead.validator.CepDirectory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para CepAddressIndex.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepAddressIndex_LLMTest {
+
+    private static final String CSV =
+        "cep;logradouro;bairro;cidade;uf\n"
+        + "36036-900;Rua José Lourenço Kelmer;São Pedro;Juiz de Fora;MG\n"
+        + "01310-100;Avenida Paulista;Bela Vista;São Paulo;SP\n"
+        + "36010-041;Rua Halfeld;Centro;Juiz de Fora;MG\n"
+        + "37540-970;;;Santa Rita do Sapucaí;MG\n";
+
+    @TempDir
+    static Path tempDir;
+
+    private static CepAddressIndex index;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        Path file = tempDir.resolve("enderecos.bin");
+        CepAddressIndex.compile(new BufferedReader(new StringReader(CSV)), file);
+        index = CepAddressIndex.open(file);
+    }
+
+    // --- Consulta ---
+
+    // Testa validação e endereço em uma única chamada
+    @Test
+    void testLookup() throws InvalidDocumentException {
+        CepAddressIndex.Address address = index.lookup("01310-100");
+        assertEquals("Avenida Paulista", address.getStreet());
+        assertEquals("Bela Vista", address.getNeighborhood());
+        assertEquals("São Paulo", address.getCity());
+        assertEquals("SP", address.getUf());
+        assertEquals("01310-100", address.getCep());
+    }
+
+    // Testa CEP válido que não está no índice
+    @Test
+    void testLookupNaoEncontrado() throws InvalidDocumentException {
+        assertNull(index.lookup("36036-901"));
+    }
+
+    // Testa CEP inválido
+    @Test
+    void testLookupCepInvalido() {
+        assertThrows(InvalidDocumentException.class, () -> index.lookup("11111-111"));
+        assertThrows(InvalidDocumentException.class, () -> index.lookup("123"));
+        assertThrows(InvalidDocumentException.class, () -> index.lookup(null));
+    }
+
+    // Testa CEP de município inteiro (sem logradouro)
+    @Test
+    void testCepDeMunicipio() throws InvalidDocumentException {
+        CepAddressIndex.Address address = index.lookup("37540970");
+        assertEquals("", address.getStreet());
+        assertEquals("Santa Rita do Sapucaí", address.getCity());
+    }
+
+    // Testa consulta por inteiro
+    @Test
+    void testFind() {
+        assertEquals(4, index.size());
+        int entry = index.find(36010041);
+        assertEquals("Rua Halfeld", index.getStreet(entry));
+        assertEquals("MG", CepDirectory.getUfCode(index.getUfId(entry)));
+        assertEquals(CepAddressIndex.NOT_FOUND, index.find(99999999));
+        assertFalse(index.contains(0));
+    }
+
+    // Testa que todos os CEPs do arquivo são encontrados
+    @Test
+    void testTodosEncontrados() {
+        assertTrue(index.contains(36036900));
+        assertTrue(index.contains(1310100));
+        assertTrue(index.contains(36010041));
+        assertTrue(index.contains(37540970));
+    }
+
+    // --- Arquivo ---
+
+    // Testa CSV com CEP duplicado
+    @Test
+    void testCepDuplicado() {
+        String csv = "36036-900;Rua A;B;C;MG\n36036900;Rua D;E;F;MG\n";
+        Path file = tempDir.resolve("duplicado.bin");
+        assertThrows(IOException.class,
+            () -> CepAddressIndex.compile(new BufferedReader(new StringReader(csv)), file));
+    }
+
+    // Testa CSV com linha incompleta
+    @Test
+    void testLinhaIncompleta() {
+        String csv = "36036-900;Rua A;B\n";
+        Path file = tempDir.resolve("incompleto.bin");
+        assertThrows(IOException.class,
+            () -> CepAddressIndex.compile(new BufferedReader(new StringReader(csv)), file));
+    }
+}
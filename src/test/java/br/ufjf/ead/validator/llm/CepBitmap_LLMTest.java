@@ -0,0 +1,110 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CepBitmap;
+import br.ufjf.ead.validator.CepValidator;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para CepBitmap e para o uso do mapa em CepValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepBitmap_LLMTest {
+
+    // --- Equivalência com validate ---
+
+    // Testa que o mapa concorda com a validação completa em CEPs aleatórios
+    @Test
+    void testMapaConcordaComValidate() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int cep = random.nextInt(CepBitmap.CEP_SPACE);
+            String text = String.format("%08d", cep);
+            boolean expected;
+            try {
+                CepValidator.validate(text);
+                expected = true;
+            } catch (Exception e) {
+                expected = false;
+            }
+            assertEquals(expected, CepBitmap.contains(cep), text);
+        }
+    }
+
+    // Testa CEPs com padrões inválidos conhecidos
+    @Test
+    void testPadroesInvalidos() {
+        assertFalse(CepBitmap.contains(0));          // 00000000
+        assertFalse(CepBitmap.contains(12345678));   // Sequência crescente
+        assertFalse(CepBitmap.contains(98765432));   // Sequência decrescente
+        assertFalse(CepBitmap.contains(10101010));   // Par repetido
+        assertFalse(CepBitmap.contains(56799912));   // Três dígitos iguais
+        assertTrue(CepBitmap.contains(56799012));
+    }
+
+    // Testa valores fora do espaço de CEPs
+    @Test
+    void testForaDoIntervalo() {
+        assertFalse(CepBitmap.contains(-1));
+        assertFalse(CepBitmap.contains(CepBitmap.CEP_SPACE));
+    }
+
+    // --- Seleção e sorteio ---
+
+    // Testa os extremos da seleção
+    @Test
+    void testSelecaoExtremos() {
+        assertEquals(100100, CepBitmap.select(0));
+        assertEquals(100101, CepBitmap.select(1));
+        assertEquals(99899899, CepBitmap.select(CepBitmap.count() - 1));
+    }
+
+    // Testa que a seleção é crescente e só retorna CEPs válidos
+    @Test
+    void testSelecaoCrescente() {
+        int previous = -1;
+        for (int rank = 0; rank < CepBitmap.count(); rank += 997_331) {
+            int cep = CepBitmap.select(rank);
+            assertTrue(CepBitmap.contains(cep));
+            assertTrue(cep > previous);
+            previous = cep;
+        }
+    }
+
+    // Testa posição fora do intervalo
+    @Test
+    void testSelecaoForaDoIntervalo() {
+        assertThrows(IndexOutOfBoundsException.class, () -> CepBitmap.select(CepBitmap.count()));
+        assertThrows(IndexOutOfBoundsException.class, () -> CepBitmap.select(-1));
+    }
+
+    // Testa o sorteio nos extremos do intervalo [0, 1)
+    @Test
+    void testSorteioExtremos() {
+        assertEquals(CepBitmap.select(0), CepBitmap.sample(0.0));
+        assertEquals(CepBitmap.select(CepBitmap.count() - 1), CepBitmap.sample(0.9999999999));
+    }
+
+    // --- CepValidator ---
+
+    // Testa que CEPs gerados são válidos
+    @Test
+    void testCepGeradoValido() {
+        for (int i = 0; i < 1000; i++) {
+            String cep = CepValidator.generateValidCep();
+            assertTrue(cep.matches("\\d{5}-\\d{3}"), cep);
+            assertTrue(CepValidator.isValid(cep), cep);
+        }
+    }
+
+    // Testa conversão para inteiro
+    @Test
+    void testToInt() {
+        assertEquals(1310100, CepValidator.toInt("01310-100"));
+        assertEquals(-1, CepValidator.toInt("0131-100"));
+        assertEquals(-1, CepValidator.toInt("013101000"));
+        assertEquals(-1, CepValidator.toInt(null));
+    }
+}
@@ -0,0 +1,162 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CepDirectory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para CepDirectory.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepDirectory_LLMTest {
+
+    private static final String CSV =
+        "cep_inicial;cep_final;uf;codigo_ibge;municipio\n"
+        + "36000-000;36099-999;MG;3136702;Juiz de Fora\n"
+        + "01000-000;05999-999;SP;3550308;São Paulo\n"
+        + "08000-000;08499-999;SP;3550308;São Paulo\n"
+        + "36100-000;36109-999;MG;3129103;Ibirité\n";
+
+    @TempDir
+    static Path tempDir;
+
+    private static CepDirectory directory;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        Path file = tempDir.resolve("faixas.bin");
+        CepDirectory.compile(new BufferedReader(new StringReader(CSV)), file);
+        directory = CepDirectory.open(file);
+    }
+
+    // --- UF ---
+
+    // Testa a UF de CEPs conhecidos
+    @Test
+    void testUfDeCeps() {
+        assertEquals("SP", CepDirectory.getUfCode(CepDirectory.getUfId(1310100)));
+        assertEquals("MG", CepDirectory.getUfCode(CepDirectory.getUfId(36036900)));
+        assertEquals("RS", CepDirectory.getUfCode(CepDirectory.getUfId(90010000)));
+    }
+
+    // Testa faixas de UF intercaladas (DF e GO, AM e RR)
+    @Test
+    void testUfFaixasIntercaladas() {
+        assertEquals("DF", CepDirectory.getUfCode(CepDirectory.getUfId(72799999)));
+        assertEquals("GO", CepDirectory.getUfCode(CepDirectory.getUfId(72800000)));
+        assertEquals("DF", CepDirectory.getUfCode(CepDirectory.getUfId(73000000)));
+        assertEquals("RR", CepDirectory.getUfCode(CepDirectory.getUfId(69301000)));
+        assertEquals("AM", CepDirectory.getUfCode(CepDirectory.getUfId(69400000)));
+    }
+
+    // Testa CEPs fora de qualquer faixa de UF
+    @Test
+    void testUfDesconhecida() {
+        assertEquals(CepDirectory.UNKNOWN, CepDirectory.getUfId(500000));
+        assertEquals(CepDirectory.UNKNOWN, CepDirectory.getUfId(-1));
+        assertEquals(CepDirectory.UNKNOWN, CepDirectory.getUfId(100_000_000));
+    }
+
+    // Testa conversão entre sigla e identificador
+    @Test
+    void testSiglaUf() {
+        assertEquals(27, CepDirectory.getUfCount());
+        assertEquals("MG", CepDirectory.getUfCode(CepDirectory.getUfId("mg")));
+        assertEquals(CepDirectory.UNKNOWN, CepDirectory.getUfId("XX"));
+        assertEquals(CepDirectory.UNKNOWN, CepDirectory.getUfId((String) null));
+        assertNull(CepDirectory.getUfCode(27));
+    }
+
+    // --- Municípios ---
+
+    // Testa a consulta de município
+    @Test
+    void testMunicipio() {
+        int cityId = directory.getCityId("36036-900");
+        assertEquals("Juiz de Fora", directory.getCityName(cityId));
+        assertEquals(3136702, directory.getCityCode(cityId));
+        assertEquals("MG", CepDirectory.getUfCode(directory.getCityUfId(cityId)));
+    }
+
+    // Testa município com mais de uma faixa
+    @Test
+    void testMunicipioComVariasFaixas() {
+        assertEquals(3, directory.getCityCount());
+        assertEquals(directory.getCityId(1310100), directory.getCityId(8400000));
+        assertEquals("São Paulo", directory.getCityName(directory.getCityId(5999999)));
+    }
+
+    // Testa os limites das faixas
+    @Test
+    void testLimitesDasFaixas() {
+        assertNotEquals(CepDirectory.UNKNOWN, directory.getCityId(36000000));
+        assertNotEquals(directory.getCityId(36099999), directory.getCityId(36100000));
+        assertEquals(CepDirectory.UNKNOWN, directory.getCityId(36110000));
+        assertEquals(CepDirectory.UNKNOWN, directory.getCityId(6000000));
+        assertEquals(CepDirectory.UNKNOWN, directory.getCityId(99999999));
+    }
+
+    // Testa CEP inválido
+    @Test
+    void testCepInvalido() {
+        assertEquals(CepDirectory.UNKNOWN, directory.getCityId("123"));
+        assertEquals(CepDirectory.UNKNOWN, directory.getCityId((String) null));
+    }
+
+    // --- Arquivo ---
+
+    // Testa CSV com faixas sobrepostas
+    @Test
+    void testFaixasSobrepostas() {
+        String csv = "36000-000;36099-999;MG;1;A\n36050-000;36199-999;MG;2;B\n";
+        Path file = tempDir.resolve("sobrepostas.bin");
+        assertThrows(IOException.class,
+            () -> CepDirectory.compile(new BufferedReader(new StringReader(csv)), file));
+    }
+
+    // Testa CSV com UF inválida
+    @Test
+    void testUfInvalidaNoCsv() {
+        String csv = "36000-000;36099-999;XX;1;A\n";
+        Path file = tempDir.resolve("uf.bin");
+        assertThrows(IOException.class,
+            () -> CepDirectory.compile(new BufferedReader(new StringReader(csv)), file));
+    }
+
+    // Testa que apenas o cabeçalho declarado na primeira linha é ignorado
+    @Test
+    void testCabecalhoEBom() throws IOException {
+        String csv = "\uFEFFcep_inicial;cep_final;uf;codigo_ibge;municipio\n"
+            + " 36000-000;36099-999;MG;3136702;Juiz de Fora\n";
+        Path file = tempDir.resolve("bom.bin");
+        CepDirectory.compile(new BufferedReader(new StringReader(csv)), file);
+        CepDirectory bom = CepDirectory.open(file);
+        assertEquals("Juiz de Fora", bom.getCityName(bom.getCityId(36036900)));
+
+        // Linha com BOM sem cabeçalho é dado, e um cabeçalho fora do declarado é erro
+        CepDirectory.compile(new BufferedReader(new StringReader("\uFEFF36000-000;36099-999;MG;3136702;A\n")), file);
+        assertEquals("A", CepDirectory.open(file).getCityName(0));
+        IOException error = assertThrows(IOException.class, () -> CepDirectory.compile(new BufferedReader(
+            new StringReader("36000-000;36099-999;MG;3136702;A\ncep_inicial;cep_final;uf;codigo_ibge;municipio\n")), file));
+        assertTrue(error.getMessage().startsWith("Linha 2:"), error.getMessage());
+        error = assertThrows(IOException.class, () -> CepDirectory.compile(new BufferedReader(
+            new StringReader("CEP inicial;CEP final;UF;IBGE;Município\n")), file));
+        assertTrue(error.getMessage().startsWith("Linha 1:"), error.getMessage());
+    }
+
+    // Testa arquivo que não é de faixas
+    @Test
+    void testArquivoInvalido() throws IOException {
+        Path file = tempDir.resolve("invalido.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> CepDirectory.open(file));
+    }
+}
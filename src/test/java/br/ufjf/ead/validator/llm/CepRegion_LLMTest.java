@@ -0,0 +1,87 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CepValidator;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a API de regiões por identificador de CepValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class CepRegion_LLMTest {
+
+    // --- Identificador de região ---
+
+    // Testa o identificador de região de CEPs conhecidos
+    @Test
+    void testRegionId() {
+        assertEquals(CepValidator.REGION_SP, CepValidator.getRegionId("01310-100"));
+        assertEquals(CepValidator.REGION_SP, CepValidator.getRegionId("13083-970"));
+        assertEquals(CepValidator.REGION_MG, CepValidator.getRegionId("36036-900"));
+        assertEquals(CepValidator.REGION_RS, CepValidator.getRegionId(90010150));
+        assertEquals(CepValidator.REGION_UNKNOWN, CepValidator.getRegionId("3603"));
+        assertEquals(CepValidator.REGION_UNKNOWN, CepValidator.getRegionId((String) null));
+        assertEquals(CepValidator.REGION_UNKNOWN, CepValidator.getRegionId(-5));
+    }
+
+    // Testa que o nome da região corresponde a getRegion
+    @Test
+    void testNomeCorrespondeAGetRegion() {
+        for (int digit = 0; digit < 10; digit++) {
+            String cep = digit + "1234567";
+            assertEquals(CepValidator.getRegion(cep),
+                CepValidator.getRegionName(CepValidator.getRegionId(cep)));
+        }
+        assertEquals("Desconhecida", CepValidator.getRegionName(CepValidator.REGION_UNKNOWN));
+        assertEquals("Desconhecida", CepValidator.getRegionName(42));
+    }
+
+    // Testa comparação de regiões
+    @Test
+    void testMesmaRegiao() {
+        assertTrue(CepValidator.isSameRegion("01001-000", "19999-999"));
+        assertFalse(CepValidator.isSameRegion("01001-000", "20040-001"));
+        assertTrue(CepValidator.isSameRegion("123", "abc"));
+        assertFalse(CepValidator.isSameRegion(null, null));
+    }
+
+    // --- Contagem em lote ---
+
+    // Testa a contagem por região de inteiros
+    @Test
+    void testContagemInteiros() {
+        int[] counts = CepValidator.countByRegion(new int[] {1310100, 13083970, 36036900, 36010041, -1});
+        assertEquals(CepValidator.REGION_COUNT, counts.length);
+        assertEquals(2, counts[CepValidator.REGION_SP]);
+        assertEquals(2, counts[CepValidator.REGION_MG]);
+        assertEquals(1, counts[CepValidator.REGION_UNKNOWN]);
+    }
+
+    // Testa a contagem por região de Strings, incluindo nulos
+    @Test
+    void testContagemStrings() {
+        int[] counts = CepValidator.countByRegion(new String[] {"90010-150", "80010000", null, "x"});
+        assertEquals(1, counts[CepValidator.REGION_RS]);
+        assertEquals(1, counts[CepValidator.REGION_PR_SC]);
+        assertEquals(2, counts[CepValidator.REGION_UNKNOWN]);
+    }
+
+    // Testa que a contagem paralela é igual à contagem sequencial
+    @Test
+    void testContagemParalela() {
+        Random random = new Random(3);
+        int[] ceps = new int[200_000];
+        int[] expected = new int[CepValidator.REGION_COUNT];
+        for (int i = 0; i < ceps.length; i++) {
+            ceps[i] = random.nextInt(100_000_000);
+            expected[CepValidator.getRegionId(ceps[i])]++;
+        }
+        assertArrayEquals(expected, CepValidator.countByRegion(ceps));
+
+        String[] texts = Arrays.stream(ceps, 0, 1000).mapToObj(c -> String.format("%08d", c)).toArray(String[]::new);
+        assertArrayEquals(CepValidator.countByRegion(Arrays.copyOf(ceps, 1000)), CepValidator.countByRegion(texts));
+    }
+}
@@ -0,0 +1,70 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.DateColumn;
+import br.ufjf.ead.validator.DateValidator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para DateColumn.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateColumn_LLMTest {
+
+    private static DateColumn column() throws InvalidDocumentException {
+        DateColumn column = new DateColumn(1);
+        column.add("15/03/2026");
+        column.add("2024-02-29");
+        column.add("31/12/1999");
+        column.add("01/01/2000");
+        return column;
+    }
+
+    // --- Construção ---
+
+    // Testa inclusão e leitura das datas
+    @Test
+    void testInclusao() throws InvalidDocumentException {
+        DateColumn column = column();
+        assertEquals(4, column.size());
+        assertEquals(20240229, column.getYyyymmdd(1));
+        assertEquals("15/03/2026", column.format(0));
+        assertThrows(InvalidDocumentException.class, () -> column.add("30/02/2020"));
+        assertEquals(4, column.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> column.getEpochDay(4));
+        assertThrows(IllegalArgumentException.class, () -> new DateColumn(-1));
+    }
+
+    // --- Operações ---
+
+    // Testa ordenação e filtro por intervalo
+    @Test
+    void testOrdenacaoEFiltro() throws InvalidDocumentException {
+        DateColumn column = column();
+        column.sort();
+        assertEquals("31/12/1999", column.format(0));
+        assertEquals("15/03/2026", column.format(3));
+
+        int from = DateValidator.toEpochDay("01/01/2000");
+        int to = DateValidator.toEpochDay("31/12/2024");
+        assertEquals(2, column.countInRange(from, to));
+        DateColumn filtered = column.filterRange(from, to);
+        assertArrayEquals(new int[] {from, DateValidator.toEpochDay(20240229)}, filtered.toEpochDays());
+    }
+
+    // Testa aritmética de dias
+    @Test
+    void testAritmetica() throws InvalidDocumentException {
+        DateColumn column = column();
+        assertEquals(1, column.daysBetween(2, 3));
+        column.plusDays(1);
+        assertEquals("01/03/2024", column.format(1));
+        assertEquals("01/01/2000", column.format(2));
+
+        DateColumn epoch = DateColumn.ofEpochDays(0, 365);
+        assertEquals(19700101, epoch.getYyyymmdd(0));
+        assertEquals(19710101, epoch.getYyyymmdd(1));
+    }
+}
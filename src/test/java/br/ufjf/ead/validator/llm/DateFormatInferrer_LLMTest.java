@@ -0,0 +1,106 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.DateFormatInferrer;
+import br.ufjf.ead.validator.DateLayout;
+import br.ufjf.ead.validator.DateValidator;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para DateFormatInferrer e DateLayout.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateFormatInferrer_LLMTest {
+
+    // --- Inferência ---
+
+    // Testa que um valor com dia maior que 12 resolve a ambiguidade
+    @Test
+    void testResolveAmbiguidade() {
+        DateFormatInferrer inferrer = new DateFormatInferrer();
+        inferrer.sample("03/04/2020");
+        assertTrue(inferrer.isAmbiguous());
+        assertTrue(inferrer.isCandidate(DateLayout.MM_DD_YYYY_SLASH));
+        assertEquals(DateLayout.DD_MM_YYYY_SLASH, inferrer.lock());
+
+        inferrer.sample("12/25/2020");
+        assertFalse(inferrer.isAmbiguous());
+        assertEquals(DateLayout.MM_DD_YYYY_SLASH, inferrer.lock());
+        assertEquals(2, inferrer.getSampledCount());
+    }
+
+    // Testa formato ISO e valores inválidos ou vazios
+    @Test
+    void testValoresRejeitados() {
+        DateFormatInferrer inferrer = new DateFormatInferrer();
+        inferrer.sampleAll(Arrays.asList("2020-01-31", " 2021-12-01 ", "", null, "abc", "31/01/2020", "2020-02-30"));
+        assertEquals(DateLayout.YYYY_MM_DD_DASH, inferrer.lock());
+        assertFalse(inferrer.isAmbiguous());
+        assertEquals(3, inferrer.getSampledCount());
+        assertEquals(4, inferrer.getRejectedCount());
+        assertEquals(1, inferrer.getConflictCount());
+        assertFalse(inferrer.isCandidate(DateLayout.YYYY_MM_DD_DASH));
+    }
+
+    // Testa que um valor discrepante na primeira linha não define o formato
+    @Test
+    void testDiscrepanteNaPrimeiraLinha() {
+        DateFormatInferrer inferrer = new DateFormatInferrer();
+        inferrer.sample("12/31/2020");
+        for (int i = 0; i < 100; i++) {
+            inferrer.sample("25/12/2020");
+        }
+        assertEquals(DateLayout.DD_MM_YYYY_SLASH, inferrer.lock());
+        assertFalse(inferrer.isAmbiguous());
+        assertEquals(101, inferrer.getSampledCount());
+        assertEquals(0, inferrer.getRejectedCount());
+        assertEquals(1, inferrer.getConflictCount());
+        assertEquals(100, inferrer.getMatchCount(DateLayout.DD_MM_YYYY_SLASH));
+        assertEquals(1, inferrer.getMatchCount(DateLayout.MM_DD_YYYY_SLASH));
+    }
+
+    // Testa inferência sem datas válidas
+    @Test
+    void testSemDatas() {
+        assertNull(DateFormatInferrer.infer(Arrays.asList("", "x")));
+        assertNull(DateFormatInferrer.infer(Collections.<String>emptyList()));
+        assertThrows(IllegalStateException.class, () -> new DateFormatInferrer().lock());
+        assertEquals(DateLayout.DD_MM_YYYY_DOT, DateFormatInferrer.infer(Arrays.asList("13.01.2020", "01.02.2020")));
+    }
+
+    // --- Formatos ---
+
+    // Testa o interpretador especializado de cada formato
+    @Test
+    void testInterpretadorEspecializado() {
+        assertEquals(20200131, DateLayout.DD_MM_YYYY_SLASH.parse("31/1/2020"));
+        assertEquals(20200131, DateLayout.YYYY_MM_DD_DOT.parse("2020.01.31"));
+        assertEquals(20201225, DateLayout.MM_DD_YYYY_DASH.parse("12-25-2020"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.DD_MM_YYYY_SLASH.parse("31-01-2020"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.DD_MM_YYYY_SLASH.parse("31/01/20"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.DD_MM_YYYY_SLASH.parse("31/01/2020/"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.DD_MM_YYYY_SLASH.parse("031/01/2020"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.DD_MM_YYYY_SLASH.parse("31/01"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.YYYY_MM_DD_DASH.parse("2020-1-"));
+        assertEquals(DateValidator.INVALID_DATE, DateLayout.YYYY_MM_DD_DASH.parse(null));
+    }
+
+    // Testa que todo valor aceito por um formato também é aceito pelo DateValidator
+    @Test
+    void testCompatibilidadeComValidador() {
+        String[] dates = {"1/2/2020", "2020/2/1", "29.02.2000", "2100-12-31", "12/31/1900"};
+        for (String date : dates) {
+            for (DateLayout layout : DateLayout.values()) {
+                int value = layout.parse(date);
+                if (value != DateValidator.INVALID_DATE) {
+                    assertTrue(DateValidator.isValid(date), date);
+                }
+            }
+        }
+        assertEquals(DateLayout.YYYY_MM_DD_SLASH, DateLayout.ofPattern("yyyy/MM/dd"));
+        assertNull(DateLayout.ofPattern("yy/MM/dd"));
+    }
+}
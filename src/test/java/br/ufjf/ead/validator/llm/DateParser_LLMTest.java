@@ -0,0 +1,146 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.DateParser;
+import br.ufjf.ead.validator.DateValidator;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para DateParser.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateParser_LLMTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC);
+
+    // --- Anos com 2 dígitos ---
+
+    // Testa a janela fixa de anos com 2 dígitos
+    @Test
+    void testJanelaFixa() {
+        DateParser parser = DateParser.standard().withTwoDigitYears(1950);
+        assertEquals(20490115, parser.toYyyymmdd("15/01/49"));
+        assertEquals(19500115, parser.toYyyymmdd("15/01/50"));
+        assertEquals(19991231, parser.toYyyymmdd("31-12-99"));
+        assertEquals(20001231, parser.toYyyymmdd("12/31/00"));
+        assertEquals(1950, parser.getWindowStart());
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("29/02/01"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("15/01/149"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("15/01/+49"));
+    }
+
+    // Testa a janela relativa ao ano atual
+    @Test
+    void testJanelaRelativa() {
+        DateParser births = DateParser.standard().withTwoDigitYears(CLOCK, 0);
+        assertEquals(19270101, births.toYyyymmdd("01/01/27"));
+        assertEquals(20260101, births.toYyyymmdd("01/01/26"));
+        DateParser expiries = DateParser.standard().withTwoDigitYears(CLOCK, 20);
+        assertEquals(20460101, expiries.toYyyymmdd("01/01/46"));
+        assertEquals(19470101, expiries.toYyyymmdd("01/01/47"));
+    }
+
+    // Testa janelas inválidas
+    @Test
+    void testJanelaInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> DateParser.standard().withTwoDigitYears(1899));
+        assertThrows(IllegalArgumentException.class, () -> DateParser.standard().withTwoDigitYears(2002));
+        assertThrows(IllegalArgumentException.class, () -> DateParser.standard().withTwoDigitYears(CLOCK, 100));
+        assertThrows(IllegalArgumentException.class, () -> DateParser.standard().withTwoDigitYears(CLOCK, -1));
+    }
+
+    // Testa que datas com ano de 4 dígitos mantêm a interpretação com a janela habilitada
+    @Test
+    void testPrecedenciaDosFormatosSuportados() {
+        DateParser parser = DateParser.standard().withTwoDigitYears(1950).withCompactLayouts();
+        assertEquals(20261016, parser.toYyyymmdd("2026/10/16"));
+        assertEquals(20260304, parser.toYyyymmdd("04/03/2026"));
+        assertEquals(20261231, parser.toYyyymmdd("12/31/2026"));
+    }
+
+    // --- Datas sem separadores ---
+
+    // Testa as datas compactas de 8 e 6 dígitos
+    @Test
+    void testCompactas() {
+        DateParser parser = DateParser.standard().withCompactLayouts();
+        assertEquals(20261016, parser.toYyyymmdd("16102026"));
+        assertEquals(20261016, parser.toYyyymmdd("20261016"));
+        assertEquals(20261231, parser.toYyyymmdd("12312026"));
+        assertEquals(20260304, parser.toYyyymmdd(" 04032026 "));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("161026"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("1610202"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("+16102026"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("32132026"));
+        assertTrue(parser.isCompact());
+
+        DateParser legacy = parser.withTwoDigitYears(CLOCK, 0);
+        assertEquals(19850716, legacy.toYyyymmdd("160785"));
+        assertEquals(20101231, legacy.toYyyymmdd("123110"));
+        assertEquals(DateValidator.INVALID_DATE, legacy.toYyyymmdd("320185"));
+    }
+
+    // Testa que os formatos adicionais ficam desabilitados no interpretador padrão
+    @Test
+    void testPadraoSemFormatosAdicionais() {
+        DateParser parser = DateParser.standard();
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("16102026"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toYyyymmdd("16/10/26"));
+        assertEquals(DateValidator.INVALID_DATE, DateValidator.toYyyymmdd("16102026"));
+        assertFalse(DateValidator.isValid("16/10/26"));
+        assertEquals(0, parser.getWindowStart());
+        assertFalse(parser.isCompact());
+    }
+
+    // Testa que o interpretador padrão coincide com DateValidator em entradas aleatórias
+    @Test
+    void testDiferencialPadrao() {
+        Random random = new Random(50);
+        String alphabet = "0123456789/-.+ ";
+        DateParser parser = DateParser.standard().withTwoDigitYears(1950).withCompactLayouts();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String date = builder.toString();
+            int expected = DateValidator.toYyyymmdd(date);
+            assertEquals(expected, DateParser.standard().toYyyymmdd(date), date);
+            if (expected != DateValidator.INVALID_DATE) {
+                assertEquals(expected, parser.toYyyymmdd(date), date);
+            }
+        }
+    }
+
+    // --- Conversão e formatação ---
+
+    // Testa a formatação com anos de 2 dígitos e datas compactas
+    @Test
+    void testFormatacao() {
+        DateParser parser = DateParser.standard().withTwoDigitYears(1950).withCompactLayouts();
+        assertEquals("16/07/1985", parser.formatBrazilian("160785"));
+        assertEquals("1985-07-16", parser.formatISO("16/07/85"));
+        assertEquals("2026-10-16", parser.formatISO("20261016"));
+        assertEquals("abc", parser.formatBrazilian("abc"));
+        assertNull(parser.formatISO(null));
+    }
+
+    // Testa a conversão em dias e a validação
+    @Test
+    void testEpochDayEValidate() {
+        DateParser parser = DateParser.standard().withTwoDigitYears(1950);
+        assertEquals(0, parser.toEpochDay("01/01/70"));
+        assertEquals(DateValidator.INVALID_DATE, parser.toEpochDay("31/02/70"));
+        assertDoesNotThrow(() -> parser.validate("01/01/70"));
+        assertThrows(InvalidDocumentException.class, () -> parser.validate("31/02/70"));
+        assertThrows(InvalidDocumentException.class, () -> parser.validate(" "));
+        assertThrows(InvalidDocumentException.class, () -> parser.validate(null));
+    }
+}
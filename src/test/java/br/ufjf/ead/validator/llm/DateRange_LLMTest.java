@@ -0,0 +1,73 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.DateColumn;
+import br.ufjf.ead.validator.DateRange;
+import br.ufjf.ead.validator.DateValidator;
+import org.junit.jupiter.api.Test;
+import java.util.BitSet;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para DateRange.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateRange_LLMTest {
+
+    // --- Teste individual ---
+
+    // Testa datas em texto e yyyymmdd, incluindo os limites
+    @Test
+    void testDatasIndividuais() throws InvalidDocumentException {
+        DateRange range = new DateRange("01/01/2023", "2023-01-31");
+        assertTrue(range.test("15/01/2023"));
+        assertTrue(range.test("01/01/2023"));
+        assertTrue(range.test(new StringBuilder("2023.01.31")));
+        assertFalse(range.test("01/02/2023"));
+        assertFalse(range.test("32/01/2023"));
+        assertFalse(range.test((CharSequence) null));
+        assertTrue(range.test(20230115));
+        assertFalse(range.test(20221231));
+        assertTrue(range.testEpochDay(DateValidator.toEpochDay("31/01/2023")));
+        assertEquals(20230101, range.getStart());
+        assertEquals(20230131, range.getEnd());
+    }
+
+    // Testa limites inválidos
+    @Test
+    void testLimitesInvalidos() {
+        assertThrows(InvalidDocumentException.class, () -> new DateRange("32/01/2023", "01/02/2023"));
+        assertThrows(IllegalArgumentException.class, () -> new DateRange("01/02/2023", "01/01/2023"));
+        assertThrows(IllegalArgumentException.class, () -> DateRange.ofYyyymmdd(20230230, 20230301));
+    }
+
+    // --- Filtro em lote ---
+
+    // Testa o filtro em lote contra o teste individual
+    @Test
+    void testFiltroEmLote() {
+        DateRange range = DateRange.ofYyyymmdd(20200301, 20211231);
+        Random random = new Random(7);
+        int[] values = new int[1000];
+        int[] epochDays = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            epochDays[i] = DateValidator.toEpochDay(20180101) + random.nextInt(2000);
+            values[i] = DateValidator.fromEpochDay(epochDays[i]);
+        }
+        values[0] = Integer.MIN_VALUE;
+        values[1] = Integer.MAX_VALUE;
+
+        BitSet bits = range.filter(values);
+        BitSet epochBits = range.filterEpochDays(epochDays);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(range.test(values[i]), bits.get(i), "posição " + i);
+            assertEquals(range.testEpochDay(epochDays[i]), epochBits.get(i), "posição " + i);
+        }
+        assertTrue(bits.cardinality() > 0);
+
+        DateColumn column = DateColumn.ofEpochDays(epochDays);
+        assertEquals(epochBits, column.filter(range));
+    }
+}
@@ -0,0 +1,193 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.DateValidator;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para DateValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class DateValidator_LLMTest {
+
+    /**
+     * Implementação original da validação (split por formato), usada como referência.
+     */
+    private static boolean reference(String date) {
+        if (date == null || date.trim().isEmpty()) {
+            return false;
+        }
+        String[] parts = date.trim().split("[/\\-.]");
+        if (parts.length != 3) {
+            return false;
+        }
+        int[][] orders = {{0, 1, 2}, {2, 1, 0}, {1, 0, 2}};
+        for (int[] order : orders) {
+            try {
+                int day = Integer.parseInt(parts[order[0]]);
+                int month = Integer.parseInt(parts[order[1]]);
+                int year = Integer.parseInt(parts[order[2]]);
+                if (year < 1900 || year > 2100 || month < 1 || month > 12 || day < 1) {
+                    continue;
+                }
+                int[] days = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+                int maxDay = month == 2 && DateValidator.isLeapYear(year) ? 29 : days[month - 1];
+                if (day <= maxDay) {
+                    return true;
+                }
+            } catch (NumberFormatException e) {
+                // Próxima ordem
+            }
+        }
+        return false;
+    }
+
+    // --- Interpretação em uma passada ---
+
+    // Testa casos de borda herdados do split e do Integer.parseInt
+    @Test
+    void testCasosDeBorda() {
+        String[] dates = {
+            "01/02/2020", "2020-02-29", "12.31.2020", "01/02-2020", "01/02/2020/", "01/02/2020//-",
+            "/01/02/2020", "01//2020", "+1/+2/+2020", "++1/02/2020", "+/02/2020", "0001/002/02020",
+            "01/02/2020/1", "01 /02/2020", "\t01/02/2020\n", "///", "-", "01/02", "99999999999/01/2020",
+            "١٢/٠٣/٢٠٢٠", "29/02/1900", "02/29/2000", "2100.12.31", "31/12/2101", ""
+        };
+        for (String date : dates) {
+            assertEquals(reference(date), DateValidator.isValid(date), date);
+        }
+        assertFalse(DateValidator.isValid(null));
+    }
+
+    // Testa equivalência com a implementação original em entradas aleatórias
+    @Test
+    void testEquivalenciaAleatoria() {
+        Random random = new Random(42);
+        String alphabet = "0123456789/-.+ a";
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder date = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int k = 0; k < length; k++) {
+                date.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEquals(reference(date.toString()), DateValidator.isValid(date.toString()), date.toString());
+        }
+        for (int i = 0; i < 50_000; i++) {
+            String date = random.nextInt(40) + "/-.".substring(i % 3, i % 3 + 1) + random.nextInt(40)
+                + "/-.".substring(random.nextInt(3)).charAt(0) + (1890 + random.nextInt(230));
+            assertEquals(reference(date), DateValidator.isValid(date), date);
+        }
+    }
+
+    // Testa que a mensagem de erro continua a mesma
+    @Test
+    void testMensagens() {
+        InvalidDocumentException empty = assertThrows(InvalidDocumentException.class, () -> DateValidator.validate("  "));
+        assertEquals("Data não pode ser nula ou vazia", empty.getMessage());
+        InvalidDocumentException format = assertThrows(InvalidDocumentException.class,
+            () -> DateValidator.validate("32/13/2023"));
+        assertTrue(format.getMessage().startsWith("Formato de data inválido"));
+    }
+
+    // --- Conversão para inteiros ---
+
+    // Testa yyyymmdd e dias desde 1970 contra java.time em todo o intervalo suportado
+    @Test
+    void testConversaoParaInteiros() {
+        for (LocalDate date = LocalDate.of(1900, 1, 1); !date.isAfter(LocalDate.of(2100, 12, 31)); date = date.plusDays(1)) {
+            int yyyymmdd = date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+            String text = String.format("%02d/%02d/%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+            assertEquals(yyyymmdd, DateValidator.toYyyymmdd(text), text);
+            assertEquals(date.toEpochDay(), DateValidator.toEpochDay(text), text);
+            assertEquals(date.toEpochDay(), DateValidator.toEpochDay(yyyymmdd));
+            assertEquals(yyyymmdd, DateValidator.fromEpochDay((int) date.toEpochDay()));
+        }
+    }
+
+    // Testa formatos, ambiguidade e datas inválidas
+    @Test
+    void testConversaoDeFormatos() {
+        assertEquals(20260208, DateValidator.toYyyymmdd(" 2026-02-08 "));
+        assertEquals(20200201, DateValidator.toYyyymmdd("01/02/2020"));
+        assertEquals(20201231, DateValidator.toYyyymmdd("12.31.2020"));
+        assertEquals(DateValidator.INVALID_DATE, DateValidator.toYyyymmdd("30/02/2020"));
+        assertEquals(DateValidator.INVALID_DATE, DateValidator.toYyyymmdd(null));
+        assertEquals(DateValidator.INVALID_DATE, DateValidator.toEpochDay("abc"));
+        assertEquals(DateValidator.INVALID_DATE, DateValidator.toEpochDay(20210229));
+        assertEquals(DateValidator.INVALID_DATE, DateValidator.toEpochDay(-20210101));
+        assertEquals(0, DateValidator.toEpochDay("01/01/1970"));
+        assertEquals(10101, DateValidator.fromEpochDay(-719162));
+        assertThrows(IllegalArgumentException.class, () -> DateValidator.fromEpochDay(-719163));
+    }
+
+    // --- Idade ---
+
+    // Testa idade com relógio e data de referência em qualquer formato suportado
+    @Test
+    void testIdade() throws InvalidDocumentException {
+        Clock clock = Clock.fixed(Instant.parse("2030-06-15T10:00:00Z"), ZoneOffset.UTC);
+        assertEquals(30, DateValidator.calculateAge("15/06/2000", clock));
+        assertEquals(29, DateValidator.calculateAge("2000-06-16", clock));
+        assertEquals(0, DateValidator.calculateAge("06.15.2030", clock));
+        assertEquals(22, DateValidator.calculateAge("29/02/2000", 20230228));
+        assertEquals(23, DateValidator.calculateAge("29/02/2000", 20230301));
+        assertThrows(InvalidDocumentException.class, () -> DateValidator.calculateAge("16/06/2030", clock));
+        assertThrows(InvalidDocumentException.class, () -> DateValidator.calculateAge("31/02/2000", clock));
+        assertThrows(InvalidDocumentException.class, () -> DateValidator.calculateAge(null, 20230101));
+    }
+
+    // Testa cálculo em lote contra java.time
+    @Test
+    void testIdadeEmLote() {
+        LocalDate reference = LocalDate.of(2026, 2, 8);
+        Random random = new Random(3);
+        int[] births = new int[5000];
+        for (int i = 0; i < births.length; i++) {
+            LocalDate birth = reference.minusDays(random.nextInt(40000));
+            births[i] = birth.getYear() * 10000 + birth.getMonthValue() * 100 + birth.getDayOfMonth();
+        }
+        births[0] = 20260209;
+        births[1] = 20210229;
+        births[2] = -1;
+
+        int[] ages = new int[births.length];
+        DateValidator.calculateAges(births, 20260208, ages);
+        assertEquals(-1, ages[0]);
+        assertEquals(-1, ages[1]);
+        assertEquals(-1, ages[2]);
+        for (int i = 3; i < births.length; i++) {
+            LocalDate birth = LocalDate.of(births[i] / 10000, births[i] / 100 % 100, births[i] % 100);
+            if (birth.getYear() >= 1900) {
+                assertEquals(Period.between(birth, reference).getYears(), ages[i], String.valueOf(births[i]));
+            } else {
+                assertEquals(-1, ages[i]);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> DateValidator.calculateAges(births, 20260208, new int[1]));
+    }
+
+    // Testa que a data de referência inválida é rejeitada antes do cálculo
+    @Test
+    void testReferenciaInvalida() {
+        int[] births = {20000101};
+        int[] ages = {7};
+        for (int reference : new int[] {20230229, 20231301, 20230100, 18991231, 21010101, 99999999, -20230101, 0}) {
+            assertThrows(IllegalArgumentException.class,
+                () -> DateValidator.calculateAge("01/01/2000", reference), String.valueOf(reference));
+            assertThrows(IllegalArgumentException.class,
+                () -> DateValidator.calculateAges(births, reference, ages), String.valueOf(reference));
+        }
+        assertEquals(7, ages[0]);
+        assertThrows(IllegalArgumentException.class, () -> DateValidator.calculateAge(null, 20230229));
+        assertThrows(IllegalArgumentException.class, () -> DateValidator.calculateAges(births,
+            Clock.fixed(Instant.parse("2101-06-01T00:00:00Z"), ZoneOffset.UTC), ages));
+    }
+}
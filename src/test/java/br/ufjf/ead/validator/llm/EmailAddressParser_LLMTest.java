@@ -0,0 +1,168 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.EmailAddressParser;
+import br.ufjf.ead.validator.EmailValidator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o modo estrito de validação de e-mails (EmailAddressParser).
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailAddressParser_LLMTest {
+
+    // --- Local part ---
+
+    // Testa dot-atom simples
+    @Test
+    void testDotAtomSimples() {
+        assertTrue(EmailValidator.isValidStrict("fabio.oliveira@ufjf.br"));
+    }
+
+    // Testa caracteres especiais de atext
+    @Test
+    void testAtextEspeciais() {
+        assertTrue(EmailValidator.isValidStrict("user!#$%&'*+/=?^_`{|}~-@example.com"));
+    }
+
+    // Testa local part entre aspas com espaço
+    @Test
+    void testLocalPartEntreAspas() {
+        assertTrue(EmailValidator.isValidStrict("\"john doe\"@example.com"));
+    }
+
+    // Testa escape dentro de aspas
+    @Test
+    void testEscapeEntreAspas() throws InvalidDocumentException {
+        EmailAddressParser address = EmailAddressParser.parse("\"a\\\"b\"@example.com");
+        assertEquals("\"a\\\"b\"", address.getLocalPart());
+    }
+
+    // Testa aspas não fechadas
+    @Test
+    void testAspasNaoFechadas() {
+        assertFalse(EmailValidator.isValidStrict("\"john@example.com"));
+    }
+
+    // Testa pontos consecutivos e pontos nas extremidades
+    @Test
+    void testPontosInvalidos() {
+        assertFalse(EmailValidator.isValidStrict("a..b@example.com"));
+        assertFalse(EmailValidator.isValidStrict(".a@example.com"));
+        assertFalse(EmailValidator.isValidStrict("a.@example.com"));
+    }
+
+    // Testa local part com mais de 64 caracteres
+    @Test
+    void testLocalPartMuitoLongo() {
+        StringBuilder local = new StringBuilder();
+        for (int i = 0; i < 65; i++) {
+            local.append('a');
+        }
+        assertFalse(EmailValidator.isValidStrict(local + "@example.com"));
+    }
+
+    // --- Comentários ---
+
+    // Testa comentários ao redor das partes
+    @Test
+    void testComentarios() throws InvalidDocumentException {
+        EmailAddressParser address = EmailAddressParser.parse("(c)john(x)@(d)example.com(e)");
+        assertEquals("john", address.getLocalPart());
+        assertEquals("example.com", address.getDomain());
+    }
+
+    // Testa comentários aninhados em excesso
+    @Test
+    void testComentariosAninhadosEmExcesso() {
+        StringBuilder email = new StringBuilder("a@example.com ");
+        for (int i = 0; i < 20; i++) {
+            email.append('(');
+        }
+        for (int i = 0; i < 20; i++) {
+            email.append(')');
+        }
+        assertFalse(EmailValidator.isValidStrict(email.toString()));
+    }
+
+    // Testa entrada hostil com parênteses abertos
+    @Test
+    void testEntradaHostil() {
+        StringBuilder email = new StringBuilder();
+        for (int i = 0; i < 900; i++) {
+            email.append('(');
+        }
+        assertFalse(EmailValidator.isValidStrict(email.toString()));
+    }
+
+    // --- Domínio ---
+
+    // Testa domínio com hífen nas extremidades do rótulo
+    @Test
+    void testDominioHifenInvalido() {
+        assertFalse(EmailValidator.isValidStrict("a@-example.com"));
+        assertFalse(EmailValidator.isValidStrict("a@example-.com"));
+    }
+
+    // Testa domínio sem ponto (permitido pela RFC)
+    @Test
+    void testDominioSemPonto() {
+        assertTrue(EmailValidator.isValidStrict("postmaster@localhost"));
+    }
+
+    // Testa domínio bloqueado
+    @Test
+    void testDominioBloqueado() {
+        assertFalse(EmailValidator.isValidStrict("user@tempmail.org"));
+    }
+
+    // --- Domínios literais ---
+
+    // Testa literal IPv4
+    @Test
+    void testLiteralIpv4() throws InvalidDocumentException {
+        EmailAddressParser address = EmailAddressParser.parse("user@[192.168.0.1]");
+        assertTrue(address.isDomainLiteral());
+        assertEquals("[192.168.0.1]", address.getDomain());
+    }
+
+    // Testa literal IPv4 inválido
+    @Test
+    void testLiteralIpv4Invalido() {
+        assertFalse(EmailValidator.isValidStrict("user@[300.1.1.1]"));
+        assertFalse(EmailValidator.isValidStrict("user@[1.2.3]"));
+    }
+
+    // Testa literais IPv6
+    @Test
+    void testLiteralIpv6() {
+        assertTrue(EmailValidator.isValidStrict("user@[IPv6:2001:db8::1]"));
+        assertTrue(EmailValidator.isValidStrict("user@[IPv6:1:2:3:4:5:6:7:8]"));
+        assertTrue(EmailValidator.isValidStrict("user@[IPv6:::ffff:192.0.2.1]"));
+    }
+
+    // Testa literais IPv6 inválidos
+    @Test
+    void testLiteralIpv6Invalido() {
+        assertFalse(EmailValidator.isValidStrict("user@[IPv6:1::2::3]"));
+        assertFalse(EmailValidator.isValidStrict("user@[IPv6:1:2:3:4:5:6:7]"));
+        assertFalse(EmailValidator.isValidStrict("user@[IPv6:12345::1]"));
+    }
+
+    // --- Casos de Borda ---
+
+    // Testa nulo e vazio
+    @Test
+    void testNuloOuVazio() {
+        assertFalse(EmailValidator.isValidStrict(null));
+        assertFalse(EmailValidator.isValidStrict(""));
+    }
+
+    // Testa caractere após o domínio
+    @Test
+    void testCaractereInesperado() {
+        assertThrows(InvalidDocumentException.class, () -> EmailAddressParser.parse("a@example.com>"));
+    }
+}
@@ -0,0 +1,127 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.EmailDomainSuggester;
+import br.ufjf.ead.validator.EmailValidator;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para EmailDomainSuggester.
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailDomainSuggester_LLMTest {
+
+    // --- Sugestões ---
+
+    // Testa transposição de letras
+    @Test
+    void testSugereTransposicao() {
+        assertEquals("gmail.com", EmailDomainSuggester.getDefault().suggestDomain("gmial.com"));
+        assertEquals("hotmail.com", EmailDomainSuggester.getDefault().suggestDomain("hotmial.com"));
+    }
+
+    // Testa letra faltando
+    @Test
+    void testSugereLetraFaltando() {
+        assertEquals("yahoo.com.br", EmailDomainSuggester.getDefault().suggestDomain("yaho.com.br"));
+    }
+
+    // Testa duas edições
+    @Test
+    void testSugereDuasEdicoes() {
+        assertEquals("gmail.com", EmailDomainSuggester.getDefault().suggestDomain("gnail.con"));
+    }
+
+    // Testa que maiúsculas são ignoradas
+    @Test
+    void testIgnoraMaiusculas() {
+        assertEquals("gmail.com", EmailDomainSuggester.getDefault().suggestDomain("GMIAL.COM"));
+    }
+
+    // --- Sem sugestão ---
+
+    // Testa domínio já conhecido
+    @Test
+    void testDominioConhecido() {
+        assertNull(EmailDomainSuggester.getDefault().suggestDomain("gmail.com"));
+    }
+
+    // Testa domínio distante de qualquer domínio popular
+    @Test
+    void testDominioDistante() {
+        assertNull(EmailDomainSuggester.getDefault().suggestDomain("ufjf.br"));
+    }
+
+    // Testa entradas nulas e vazias
+    @Test
+    void testNuloOuVazio() {
+        assertNull(EmailDomainSuggester.getDefault().suggestDomain(null));
+        assertNull(EmailDomainSuggester.getDefault().suggestDomain(" "));
+        assertNull(EmailDomainSuggester.getDefault().suggest(null));
+    }
+
+    // --- Dicionário customizado ---
+
+    // Testa desempate pela ordem do dicionário
+    @Test
+    void testDesempatePorOrdem() {
+        EmailDomainSuggester suggester = new EmailDomainSuggester("abc.com", "abd.com");
+        assertEquals("abc.com", suggester.suggestDomain("abx.com"));
+    }
+
+    // Testa que o melhor domínio é encontrado entre centenas de candidatos
+    @Test
+    void testMuitosCandidatos() {
+        String query = "abcdefgh.com";
+        List<String> domains = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            for (int j = i + 1; j < 8; j++) {
+                for (char c = '0'; c <= '9'; c++) {
+                    char[] chars = query.toCharArray();
+                    chars[i] = c;
+                    chars[j] = c;
+                    domains.add(new String(chars));
+                }
+            }
+        }
+        assertTrue(domains.size() > 64);
+        domains.add("abcdefgx.com");
+        EmailDomainSuggester suggester = new EmailDomainSuggester(domains);
+        assertEquals("abcdefgx.com", suggester.suggestDomain(query));
+        assertEquals(domains.get(0), suggester.suggestDomain(domains.get(0).replace(".com", ".cmo")));
+        assertNull(suggester.suggestDomain(query + "xyz"));
+    }
+
+    // Testa dicionários grandes demais para o índice
+    @Test
+    void testDicionarioGrandeDemais() {
+        char[] chars = new char[40_000];
+        Arrays.fill(chars, 'a');
+        assertThrows(IllegalArgumentException.class, () -> new EmailDomainSuggester(new String(chars)));
+    }
+
+    // Testa construção a partir de coleção
+    @Test
+    void testDicionarioColecao() {
+        EmailDomainSuggester suggester = new EmailDomainSuggester(Arrays.asList("ufjf.br", "ufmg.br"));
+        assertEquals("ufjf.br", suggester.suggestDomain("ufjff.br"));
+    }
+
+    // --- Integração com EmailValidator ---
+
+    // Testa sugestão de e-mail completo
+    @Test
+    void testSugestaoEmailCompleto() {
+        assertEquals("fabio@hotmail.com", EmailValidator.suggestCorrection("fabio@hotmial.com"));
+    }
+
+    // Testa que e-mails inválidos não recebem sugestão
+    @Test
+    void testSemSugestaoParaEmailInvalido() {
+        assertNull(EmailValidator.suggestCorrection("fabio@@gmial.com"));
+    }
+}
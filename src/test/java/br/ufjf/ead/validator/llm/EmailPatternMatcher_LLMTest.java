@@ -0,0 +1,110 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.EmailPatternMatcher;
+import br.ufjf.ead.validator.EmailValidator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para EmailPatternMatcher e EmailValidator.classify.
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailPatternMatcher_LLMTest {
+
+    // --- Padrões padrão ---
+
+    // Testa conta de função exata
+    @Test
+    void testContaDeFuncao() {
+        assertEquals(EmailPatternMatcher.ROLE_ACCOUNT, EmailValidator.classify("admin@ufjf.br"));
+        assertEquals(EmailPatternMatcher.ROLE_ACCOUNT, EmailValidator.classify("Financeiro@empresa.com.br"));
+    }
+
+    // Testa que contas de função só são reconhecidas no local part completo
+    @Test
+    void testContaDeFuncaoParcial() {
+        assertEquals(0, EmailValidator.classify("contatos@empresa.com.br"));
+        assertEquals(0, EmailValidator.classify("fabio.admin@empresa.com.br"));
+    }
+
+    // Testa prefixo noreply
+    @Test
+    void testNoReply() {
+        assertEquals(EmailPatternMatcher.NO_REPLY, EmailValidator.classify("noreply.loja@gmail.com"));
+        assertEquals(EmailPatternMatcher.NO_REPLY, EmailValidator.classify("nao-responda@banco.com.br"));
+    }
+
+    // Testa trecho de spam trap em qualquer posição
+    @Test
+    void testSpamTrap() {
+        assertEquals(EmailPatternMatcher.SPAM_TRAP, EmailValidator.classify("joao.spamtrap@exemplo.com"));
+    }
+
+    // Testa combinação de flags
+    @Test
+    void testCombinacaoDeFlags() {
+        assertEquals(EmailPatternMatcher.NO_REPLY | EmailPatternMatcher.SPAM_TRAP,
+            EmailPatternMatcher.getDefault().match("noreply-honeypot"));
+    }
+
+    // Testa e-mail comum
+    @Test
+    void testEmailComum() {
+        assertEquals(0, EmailValidator.classify("fabio.oliveira@ufjf.br"));
+    }
+
+    // --- Validação na mesma varredura ---
+
+    // Testa e-mails inválidos
+    @Test
+    void testEmailInvalido() {
+        assertEquals(-1, EmailValidator.classify(null));
+        assertEquals(-1, EmailValidator.classify("admin..x@ufjf.br"));
+        assertEquals(-1, EmailValidator.classify(".admin@ufjf.br"));
+        assertEquals(-1, EmailValidator.classify("admin@ufjf"));
+        assertEquals(-1, EmailValidator.classify("admin@ufjf.b1"));
+        assertEquals(-1, EmailValidator.classify("admin@TempMail.org"));
+    }
+
+    // Testa equivalência com isValid
+    @Test
+    void testEquivalenciaComIsValid() {
+        String[] emails = {
+            "a@b.co", "a.b@c.de", "x@y.z", "a@.b.com", "a@b-.com", "ação@b.com",
+            "  admin@ufjf.br  ", "a+b%c@d.e.fg", "a@b..com", "abc@d.e1"
+        };
+        for (String email : emails) {
+            assertEquals(EmailValidator.isValid(email), EmailValidator.classify(email) != -1, email);
+        }
+    }
+
+    // --- Padrões customizados ---
+
+    // Testa autômato com padrões sobrepostos
+    @Test
+    void testPadroesSobrepostos() {
+        EmailPatternMatcher matcher = new EmailPatternMatcher(
+            new String[] {"he", "she", "his", "hers"}, new int[] {1, 2, 4, 8});
+        assertEquals(1 | 2 | 8, matcher.match("ushers"));
+    }
+
+    // Testa âncoras de início e fim
+    @Test
+    void testAncoras() {
+        EmailPatternMatcher matcher = new EmailPatternMatcher(
+            new String[] {"^teste", "loja$"}, new int[] {1, 2});
+        assertEquals(1, matcher.match("teste.loja1"));
+        assertEquals(2, matcher.match("minha.loja"));
+        assertEquals(0, matcher.match("meuteste"));
+    }
+
+    // Testa padrões inválidos
+    @Test
+    void testPadraoInvalido() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new EmailPatternMatcher(new String[] {"a@b"}, new int[] {1}));
+        assertThrows(IllegalArgumentException.class,
+            () -> new EmailPatternMatcher(new String[] {"a"}, new int[] {}));
+    }
+}
@@ -0,0 +1,117 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.EmailValidator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a validação de e-mails internacionalizados do EmailValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class EmailValidator_LLMTest {
+
+    // --- Caminho ASCII ---
+
+    // Testa que endereços ASCII seguem a validação padrão
+    @Test
+    void testEmailAsciiValido() {
+        assertTrue(EmailValidator.isValidInternational("fabio.oliveira@ufjf.br"));
+    }
+
+    // Testa que regras da validação padrão continuam valendo no caminho ASCII
+    @Test
+    void testEmailAsciiInvalido() {
+        assertFalse(EmailValidator.isValidInternational("fabio..oliveira@ufjf.br"));
+        assertFalse(EmailValidator.isValidInternational("fabio@ufjf"));
+    }
+
+    // --- Local part UTF-8 ---
+
+    // Testa local part com acento em domínio ASCII
+    @Test
+    void testLocalPartComAcento() {
+        assertTrue(EmailValidator.isValidInternational("usuário@exemplo.com.br"));
+    }
+
+    // Testa que a validação padrão continua rejeitando caracteres não ASCII
+    @Test
+    void testValidacaoPadraoRejeitaUnicode() {
+        assertFalse(EmailValidator.isValid("usuário@exemplo.com.br"));
+    }
+
+    // Testa local part com pontos consecutivos
+    @Test
+    void testLocalPartUnicodePontosConsecutivos() {
+        assertThrows(InvalidDocumentException.class,
+            () -> EmailValidator.validateInternational("jo..ão@exemplo.com"));
+    }
+
+    // Testa local part começando com ponto
+    @Test
+    void testLocalPartUnicodeComecaComPonto() {
+        assertThrows(InvalidDocumentException.class,
+            () -> EmailValidator.validateInternational(".joão@exemplo.com"));
+    }
+
+    // Testa local part com símbolo não permitido
+    @Test
+    void testLocalPartUnicodeComSimbolo() {
+        assertFalse(EmailValidator.isValidInternational("joão★@exemplo.com"));
+    }
+
+    // --- Domínios IDN ---
+
+    // Testa domínio internacionalizado
+    @Test
+    void testDominioIdn() {
+        assertTrue(EmailValidator.isValidInternational("joão@domínio.com"));
+        assertTrue(EmailValidator.isValidInternational("user@пример.рф"));
+    }
+
+    // Testa domínio internacionalizado sem ponto
+    @Test
+    void testDominioIdnSemPonto() {
+        assertFalse(EmailValidator.isValidInternational("joão@domínio"));
+    }
+
+    // Testa domínio bloqueado também no caminho Unicode
+    @Test
+    void testDominioBloqueadoUnicode() {
+        assertFalse(EmailValidator.isValidInternational("joão@tempmail.org"));
+    }
+
+    // Testa mais de um '@'
+    @Test
+    void testMaisDeUmArroba() {
+        assertFalse(EmailValidator.isValidInternational("joão@a@exemplo.com"));
+    }
+
+    // Testa nulo e vazio
+    @Test
+    void testNuloOuVazio() {
+        assertFalse(EmailValidator.isValidInternational(null));
+        assertFalse(EmailValidator.isValidInternational("   "));
+    }
+
+    // --- Conversão para ASCII ---
+
+    // Testa conversão do domínio para punycode
+    @Test
+    void testToAsciiConverteDominio() {
+        assertEquals("joão@xn--domnio-5va.com", EmailValidator.toAscii("joão@domínio.com"));
+    }
+
+    // Testa que endereços ASCII não são alterados
+    @Test
+    void testToAsciiMantemAscii() {
+        assertEquals("fabio@ufjf.br", EmailValidator.toAscii(" fabio@ufjf.br "));
+    }
+
+    // Testa conversão de nulo
+    @Test
+    void testToAsciiNulo() {
+        assertNull(EmailValidator.toAscii(null));
+    }
+}
@@ -0,0 +1,139 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.FormatPreservingTokenizer;
+import br.ufjf.ead.validator.Luhn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para FormatPreservingTokenizer.
+ *
+ * @author Fabio Oliveira
+ */
+public class FormatPreservingTokenizer_LLMTest {
+
+    // Chave dos exemplos de FF1 da NIST (AES-128)
+    private static final String NIST_KEY = "2B7E151628AED2A6ABF7158809CF4F3C";
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] hex(String value) {
+        byte[] bytes = new byte[value.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(value.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+    private static FormatPreservingTokenizer tokenizer() {
+        return new FormatPreservingTokenizer(hex(NIST_KEY));
+    }
+
+    // --- FF1 ---
+
+    // Testa os exemplos de FF1 da NIST com radix 10
+    @Test
+    void testVetoresNist() {
+        FormatPreservingTokenizer tokenizer = tokenizer();
+        assertEquals("2433477484", tokenizer.encrypt("0123456789", new byte[0]));
+        assertEquals("0123456789", tokenizer.decrypt("2433477484", new byte[0]));
+        byte[] tweak = hex("39383736353433323130");
+        assertEquals("6124200773", tokenizer.encrypt("0123456789", tweak));
+        assertEquals("0123456789", tokenizer.decrypt("6124200773", tweak));
+    }
+
+    // Testa a quantidade de dígitos aceita pelo FF1
+    @Test
+    void testTamanhoInvalido() {
+        FormatPreservingTokenizer tokenizer = tokenizer();
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.encrypt("12345", new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.encrypt("1234567890123456789", new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.encrypt("12345a", new byte[0]));
+    }
+
+    // --- Tokenização ---
+
+    // Testa que o token preserva BIN e últimos dígitos e é válido pelo Luhn
+    @Test
+    void testTokenPreservaFormato() throws InvalidDocumentException {
+        FormatPreservingTokenizer tokenizer = tokenizer();
+        for (String card : Arrays.asList("4111111111111111", "5555555555554444", "6011111111111117",
+                                         "4111111111111111003", "6304000000000000")) {
+            String token = tokenizer.tokenize(card);
+            assertEquals(card.length(), token.length());
+            assertEquals(card.substring(0, 6), token.substring(0, 6));
+            assertEquals(card.substring(card.length() - 4), token.substring(token.length() - 4));
+            assertTrue(Luhn.isValid(token), token);
+            assertEquals(card, tokenizer.detokenize(token));
+        }
+    }
+
+    // Testa que o token depende da chave e ignora separadores
+    @Test
+    void testChaveESeparadores() throws InvalidDocumentException {
+        String token = tokenizer().tokenize("4111 1111 1111 1111");
+        assertEquals(token, tokenizer().tokenize("4111111111111111"));
+        byte[] otherKey = new byte[32];
+        assertNotEquals(token, new FormatPreservingTokenizer(otherKey).tokenize("4111111111111111"));
+    }
+
+    // Testa cartões inválidos
+    @Test
+    void testCartaoInvalido() {
+        FormatPreservingTokenizer tokenizer = tokenizer();
+        assertThrows(InvalidDocumentException.class, () -> tokenizer.tokenize(null));
+        assertThrows(InvalidDocumentException.class, () -> tokenizer.tokenize("4111111111111112"));
+        assertThrows(InvalidDocumentException.class, () -> tokenizer.tokenize("378282246310005"));
+        assertThrows(InvalidDocumentException.class, () -> tokenizer.tokenize("41111111111111111111"));
+    }
+
+    // Testa tokenização em lote e em paralelo
+    @Test
+    void testLote() throws InvalidDocumentException {
+        FormatPreservingTokenizer tokenizer = tokenizer();
+        List<String> cards = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String partial = "411111" + String.format("%09d", i * 7919L);
+            cards.add(partial + Luhn.checkDigit(partial));
+        }
+        cards.add("4111111111111112");
+
+        List<String> tokens = tokenizer.tokenizeAll(cards);
+        assertEquals(cards.size(), tokens.size());
+        assertNull(tokens.get(cards.size() - 1));
+        for (int i = 0; i < cards.size() - 1; i++) {
+            assertEquals(tokenizer.tokenize(cards.get(i)), tokens.get(i));
+            assertEquals(cards.get(i), tokenizer.detokenize(tokens.get(i)));
+        }
+    }
+
+    // --- Chave ---
+
+    // Testa leitura da chave em arquivo binário e hexadecimal
+    @Test
+    void testArquivoDeChave() throws IOException, InvalidDocumentException {
+        Path binary = tempDir.resolve("chave.bin");
+        Files.write(binary, hex(NIST_KEY));
+        Path text = tempDir.resolve("chave.hex");
+        Files.write(text, (NIST_KEY.toLowerCase() + "\n").getBytes(StandardCharsets.US_ASCII));
+
+        String expected = tokenizer().tokenize("5555555555554444");
+        assertEquals(expected, FormatPreservingTokenizer.fromKeyFile(binary).tokenize("5555555555554444"));
+        assertEquals(expected, FormatPreservingTokenizer.fromKeyFile(text).tokenize("5555555555554444"));
+
+        Path invalid = tempDir.resolve("chave.txt");
+        Files.write(invalid, "curta".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(IOException.class, () -> FormatPreservingTokenizer.fromKeyFile(invalid));
+        assertThrows(IllegalArgumentException.class, () -> new FormatPreservingTokenizer(new byte[10]));
+    }
+}
@@ -0,0 +1,178 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CepCentroids;
+import br.ufjf.ead.validator.GeoPointIndex;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para GeoPointIndex e CepCentroids.
+ *
+ * @author Fabio Oliveira
+ */
+public class GeoPointIndex_LLMTest {
+
+    // Centros de distribuição: São Paulo, Rio de Janeiro, Belo Horizonte, Juiz de Fora, Porto Alegre
+    private static final double[] CENTER_LATS = {-23.5505, -22.9068, -19.9167, -21.7642, -30.0346};
+    private static final double[] CENTER_LONS = {-46.6333, -43.1729, -43.9345, -43.3496, -51.2177};
+
+    private static final String CSV =
+        "cep;latitude;longitude\n"
+        + "36036-900;-21.7766;-43.3683\n"
+        + "01310-100;-23.5614;-46.6559\n"
+        + "90010-150;-30.0277;-51.2287\n";
+
+    // --- Distância ---
+
+    // Testa distância conhecida entre São Paulo e Rio de Janeiro
+    @Test
+    void testDistanciaConhecida() {
+        double km = GeoPointIndex.distanceKm(-23.5505, -46.6333, -22.9068, -43.1729);
+        assertEquals(361, km, 5);
+    }
+
+    // --- Vizinhos mais próximos ---
+
+    // Testa os vizinhos mais próximos em ordem crescente de distância
+    @Test
+    void testVizinhosMaisProximos() {
+        GeoPointIndex index = new GeoPointIndex(CENTER_LATS, CENTER_LONS);
+        int[] ids = new int[3];
+        double[] km = new double[3];
+        int count = index.nearest(-21.78, -43.37, 3, ids, km);
+        assertEquals(3, count);
+        assertArrayEquals(new int[] {3, 1, 2}, ids);
+        assertTrue(km[0] < km[1] && km[1] < km[2]);
+        assertEquals(GeoPointIndex.distanceKm(-21.78, -43.37, CENTER_LATS[1], CENTER_LONS[1]), km[1], 1e-6);
+    }
+
+    // Testa k maior que a quantidade de pontos
+    @Test
+    void testKMaiorQueIndice() {
+        GeoPointIndex index = new GeoPointIndex(CENTER_LATS, CENTER_LONS);
+        int[] ids = new int[10];
+        double[] km = new double[10];
+        assertEquals(5, index.nearest(0, 0, 10, ids, km));
+        assertEquals(0, index.nearest(0, 0, 0, ids, km));
+    }
+
+    // Testa equivalência com busca exaustiva em pontos aleatórios
+    @Test
+    void testEquivalenciaComForcaBruta() {
+        Random random = new Random(7);
+        int n = 2000;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = -34 + random.nextDouble() * 39;
+            lons[i] = -74 + random.nextDouble() * 40;
+        }
+        GeoPointIndex index = new GeoPointIndex(lats, lons);
+        int[] ids = new int[5];
+        double[] km = new double[5];
+        int[] radiusIds = new int[n];
+
+        for (int q = 0; q < 200; q++) {
+            double lat = -34 + random.nextDouble() * 39;
+            double lon = -74 + random.nextDouble() * 40;
+            double[] expected = new double[n];
+            for (int i = 0; i < n; i++) {
+                expected[i] = GeoPointIndex.distanceKm(lat, lon, lats[i], lons[i]);
+            }
+            double[] sorted = expected.clone();
+            Arrays.sort(sorted);
+
+            index.nearest(lat, lon, 5, ids, km);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(sorted[i], km[i], 1e-6);
+                assertEquals(expected[ids[i]], km[i], 1e-6);
+            }
+
+            int inside = 0;
+            for (double d : expected) {
+                if (d <= 300) {
+                    inside++;
+                }
+            }
+            assertEquals(inside, index.withinRadius(lat, lon, 300, radiusIds));
+        }
+    }
+
+    // --- Raio ---
+
+    // Testa busca por raio
+    @Test
+    void testRaio() {
+        GeoPointIndex index = new GeoPointIndex(CENTER_LATS, CENTER_LONS);
+        int[] ids = new int[5];
+        int count = index.withinRadius(-21.78, -43.37, 150, ids);
+        assertEquals(2, count);
+        int[] found = Arrays.copyOf(ids, count);
+        Arrays.sort(found);
+        assertArrayEquals(new int[] {1, 3}, found);
+    }
+
+    // Testa raio com array de resultado menor que a quantidade encontrada
+    @Test
+    void testRaioComArrayPequeno() {
+        GeoPointIndex index = new GeoPointIndex(CENTER_LATS, CENTER_LONS);
+        int[] ids = new int[1];
+        assertEquals(5, index.withinRadius(-23, -45, 20000, ids));
+    }
+
+    // Testa coordenadas inválidas
+    @Test
+    void testCoordenadaInvalida() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new GeoPointIndex(new double[] {91}, new double[] {0}));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GeoPointIndex(new double[] {0, 1}, new double[] {0}));
+    }
+
+    // --- Centroides de CEP ---
+
+    // Testa o carregamento e a consulta por CEP
+    @Test
+    void testCentroides() throws IOException {
+        CepCentroids centroids = CepCentroids.load(new BufferedReader(new StringReader(CSV)));
+        assertEquals(3, centroids.size());
+        int entry = centroids.find("01310-100");
+        assertEquals(-23.5614, centroids.getLatitude(entry), 1e-9);
+        assertEquals(1310100, centroids.getCep(entry));
+        assertEquals(CepCentroids.NOT_FOUND, centroids.find("01310-101"));
+        assertEquals(CepCentroids.NOT_FOUND, centroids.find("abc"));
+    }
+
+    // Testa o centro de distribuição mais próximo de um CEP
+    @Test
+    void testCentroMaisProximoDoCep() throws IOException {
+        CepCentroids centroids = CepCentroids.load(new BufferedReader(new StringReader(CSV)));
+        GeoPointIndex centers = new GeoPointIndex(CENTER_LATS, CENTER_LONS);
+        int[] ids = new int[1];
+        double[] km = new double[1];
+        assertEquals(1, centroids.nearest(90010150, centers, 1, ids, km));
+        assertEquals(4, ids[0]);
+        assertEquals(0, centroids.nearest(99999999, centers, 1, ids, km));
+    }
+
+    // Testa CEPs próximos a uma coordenada pelo índice dos centroides
+    @Test
+    void testCepsProximos() throws IOException {
+        CepCentroids centroids = CepCentroids.load(new BufferedReader(new StringReader(CSV)));
+        int[] ids = new int[3];
+        assertEquals(1, centroids.getIndex().withinRadius(-21.7642, -43.3496, 10, ids));
+        assertEquals(36036900, centroids.getCep(ids[0]));
+    }
+
+    // Testa CSV com CEP duplicado
+    @Test
+    void testCepDuplicado() {
+        String csv = "36036-900;-21.7;-43.3\n36036900;-21.8;-43.4\n";
+        assertThrows(IOException.class, () -> CepCentroids.load(new BufferedReader(new StringReader(csv))));
+    }
+}
@@ -0,0 +1,116 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.CreditCardValidator;
+import br.ufjf.ead.validator.Luhn;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para Luhn.
+ *
+ * @author Fabio Oliveira
+ */
+public class Luhn_LLMTest {
+
+    /**
+     * Implementação de referência (a original de CreditCardValidator).
+     */
+    private static int referenceSum(String number) {
+        int sum = 0;
+        boolean alternate = false;
+        for (int i = number.length() - 1; i >= 0; i--) {
+            int n = Integer.parseInt(number.substring(i, i + 1));
+            if (alternate) {
+                n *= 2;
+                if (n > 9) {
+                    n = (n % 10) + 1;
+                }
+            }
+            sum += n;
+            alternate = !alternate;
+        }
+        return sum;
+    }
+
+    // --- Validação ---
+
+    // Testa números conhecidos
+    @Test
+    void testNumerosConhecidos() {
+        assertTrue(Luhn.isValid("4111111111111111"));
+        assertTrue(Luhn.isValid("378282246310005"));
+        assertTrue(Luhn.isValid("0"));
+        assertFalse(Luhn.isValid("4111111111111112"));
+    }
+
+    // Testa entradas inválidas
+    @Test
+    void testEntradasInvalidas() {
+        assertFalse(Luhn.isValid((CharSequence) null));
+        assertFalse(Luhn.isValid(""));
+        assertFalse(Luhn.isValid("4111 1111 1111 1111"));
+        assertFalse(Luhn.isValid("41111111111111a1"));
+        assertEquals(-1, Luhn.sum("/", 0, 1));
+        assertEquals(-1, Luhn.sum(":0", 0, 2));
+    }
+
+    // Testa equivalência com a implementação de referência
+    @Test
+    void testEquivalenciaComReferencia() {
+        Random random = new Random(11);
+        for (int i = 0; i < 20000; i++) {
+            int length = 1 + random.nextInt(19);
+            StringBuilder number = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                number.append((char) ('0' + random.nextInt(10)));
+            }
+            String text = number.toString();
+            int expected = referenceSum(text);
+            assertEquals(expected, Luhn.sum(text, 0, length), text);
+            assertEquals(expected % 10 == 0, Luhn.isValid(text), text);
+
+            byte[] bytes = ("x" + text + "y").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, Luhn.sum(bytes, 1, length), text);
+            assertEquals(expected % 10 == 0, Luhn.isValid(bytes, 1, length), text);
+        }
+    }
+
+    // Testa trecho no meio de um texto
+    @Test
+    void testTrecho() {
+        assertEquals(Luhn.sum("4111111111111111", 0, 16), Luhn.sum("ab4111111111111111cd", 2, 18));
+    }
+
+    // --- Dígito verificador ---
+
+    // Testa que o dígito verificador gera números válidos
+    @Test
+    void testDigitoVerificador() {
+        Random random = new Random(5);
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder partial = new StringBuilder();
+            for (int j = 0; j < 15; j++) {
+                partial.append((char) ('0' + random.nextInt(10)));
+            }
+            int digit = Luhn.checkDigit(partial);
+            assertTrue(Luhn.isValid(partial.toString() + digit), partial.toString());
+        }
+        assertEquals(1, Luhn.checkDigit("411111111111111"));
+        assertEquals(-1, Luhn.checkDigit(""));
+        assertEquals(-1, Luhn.checkDigit("12a"));
+    }
+
+    // --- CreditCardValidator ---
+
+    // Testa que a validação de cartões continua a mesma
+    @Test
+    void testCreditCardValidator() {
+        assertTrue(CreditCardValidator.isValid("4111 1111 1111 1111"));
+        assertFalse(CreditCardValidator.isValid("4111 1111 1111 1112"));
+        for (String brand : new String[] {"visa", "mastercard", "amex", "discover"}) {
+            assertTrue(CreditCardValidator.isValid(CreditCardValidator.generateTestCard(brand)), brand);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.validator.BinTable;
+import br.ufjf.ead.validator.PanScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para PanScanner.
+ *
+ * @author Fabio Oliveira
+ */
+public class PanScanner_LLMTest {
+
+    private static final String LOG =
+        "2026-01-01 INFO pagamento aprovado cartao=4111111111111111 valor=10\n"
+        + "2026-01-01 INFO cartao 5555 5555 5555 4444 id=123456789012\n"
+        + "2026-01-01 WARN amex 3782-822463-10005 pedido 4111111111111112\n"
+        + "2026-01-01 INFO conta 41111111111111110000 sem cartao\n";
+
+    @TempDir
+    Path tempDir;
+
+    private static List<PanScanner.Hit> scan(String text) {
+        return new PanScanner().scan(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // --- Detecção ---
+
+    // Testa números com e sem separadores
+    @Test
+    void testDeteccao() {
+        List<PanScanner.Hit> hits = scan(LOG);
+        assertEquals(3, hits.size());
+        assertEquals("411111 ****** 1111", hits.get(0).getMasked());
+        assertEquals(LOG.indexOf("4111111111111111"), hits.get(0).getOffset());
+        assertEquals(16, hits.get(0).getLength());
+        assertEquals("555555 ****** 4444", hits.get(1).getMasked());
+        assertEquals(19, hits.get(1).getLength());
+        assertEquals("378282 ***** 0005", hits.get(2).getMasked());
+    }
+
+    // Testa que Luhn inválido, sequências longas e bandeiras desconhecidas são ignorados
+    @Test
+    void testFiltros() {
+        assertTrue(scan("4111111111111112").isEmpty());
+        assertTrue(scan("41111111111111110000").isEmpty());
+        assertTrue(scan("1234567812345670").isEmpty());
+        assertTrue(scan("4111  1111 1111 1111").isEmpty());
+    }
+
+    // Testa número no início e no fim do conteúdo
+    @Test
+    void testExtremos() {
+        assertEquals(1, scan("4111111111111111").size());
+        assertEquals(1, scan("x-4111-1111-1111-1111-").size());
+    }
+
+    // Testa cartões ao lado de outros números (data, hora e status)
+    @Test
+    void testNumerosVizinhos() {
+        String line = "2026-10-19 12:00:01 4111111111111111 approved";
+        List<PanScanner.Hit> hits = scan(line);
+        assertEquals(1, hits.size());
+        assertEquals(line.indexOf("4111"), hits.get(0).getOffset());
+        assertEquals(16, hits.get(0).getLength());
+
+        hits = scan("card 4111111111111111 200");
+        assertEquals(1, hits.size());
+        assertEquals(5, hits.get(0).getOffset());
+
+        assertEquals(1, scan("pan=4111111111111111 status=ok").size());
+        assertEquals(1, scan("2026-10-19 4111 1111 1111 1111 200").size());
+        assertEquals(19, scan("2026 4111 1111 1111 1111 200").get(0).getLength());
+        assertEquals("378282 ***** 0005", scan("12 3782-822463-10005 7").get(0).getMasked());
+        assertEquals(2, scan("4111111111111111 5555555555554444").size());
+    }
+
+    // Testa que grupos fora do formato de cartão não são unidos
+    @Test
+    void testGruposForaDoFormato() {
+        assertTrue(scan("41 1111 1111 1111 11").isEmpty());
+        assertTrue(scan("4111-1111 1111-1111").isEmpty());
+        assertTrue(scan("411111 1111111111").isEmpty());
+    }
+
+    // Testa filtro por tabela de BIN
+    @Test
+    void testFiltroPorTabela() throws IOException {
+        BinTable table = BinTable.load(new BufferedReader(new StringReader("555555;555555;MasterCard;A;BR;\n")));
+        List<PanScanner.Hit> hits = new PanScanner(table).scan(LOG.getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, hits.size());
+        assertEquals("555555 ****** 4444", hits.get(0).getMasked());
+    }
+
+    // --- Arquivos ---
+
+    // Testa que o resultado não depende do tamanho dos segmentos
+    @Test
+    void testSegmentos() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            content.append(LOG);
+        }
+        content.append("2026-10-19 12:00:01 4111111111111111 5555 5555 5555 4444 200\n");
+        Path file = tempDir.resolve("app.log");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<PanScanner.Hit> expected = new PanScanner().scan(file);
+        assertEquals(152, expected.size());
+        for (int segmentSize = 1; segmentSize <= 80; segmentSize += 7) {
+            List<PanScanner.Hit> hits = new PanScanner(null, segmentSize).scan(file);
+            assertEquals(expected.size(), hits.size(), "segmento " + segmentSize);
+            for (int i = 0; i < hits.size(); i++) {
+                assertEquals(expected.get(i).getOffset(), hits.get(i).getOffset());
+            }
+        }
+    }
+
+    // Testa mascaramento de arquivo
+    @Test
+    void testMascararArquivo() throws IOException {
+        Path input = tempDir.resolve("entrada.log");
+        Path output = tempDir.resolve("saida.log");
+        Files.write(input, LOG.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(3, new PanScanner().mask(input, output));
+        String masked = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+        assertTrue(masked.contains("cartao=411111 ****** 1111 valor=10"));
+        assertTrue(masked.contains("cartao 555555 ****** 4444 id=123456789012"));
+        assertTrue(masked.contains("4111111111111112"));
+        assertTrue(new PanScanner().scan(output).isEmpty());
+    }
+
+    // Testa arquivo vazio e tamanho de segmento inválido
+    @Test
+    void testArquivoVazio() throws IOException {
+        Path file = tempDir.resolve("vazio.log");
+        Files.write(file, new byte[0]);
+        assertTrue(new PanScanner().scan(file).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new PanScanner(null, 0));
+    }
+}
@@ -0,0 +1,168 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.Luhn;
+import br.ufjf.ead.validator.PanVelocityCounter;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para PanVelocityCounter.
+ *
+ * @author Fabio Oliveira
+ */
+public class PanVelocityCounter_LLMTest {
+
+    private static final String VISA = "4111111111111111";
+    private static final String MASTERCARD = "5555 5555 5555 4444";
+
+    /**
+     * Relógio que avança manualmente.
+     */
+    private static class ManualClock extends Clock {
+        private volatile long millis = 1_000_000;
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    // --- Modo exato ---
+
+    // Testa a contagem e a expiração da janela
+    @Test
+    void testJanelaExata() throws InvalidDocumentException {
+        ManualClock clock = new ManualClock();
+        PanVelocityCounter counter = PanVelocityCounter.exact(Duration.ofMinutes(10), 10, clock);
+        assertTrue(counter.isExact());
+
+        assertEquals(1, counter.record(VISA));
+        assertEquals(2, counter.record("4111-1111-1111-1111"));
+        assertEquals(1, counter.record(MASTERCARD));
+
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals(3, counter.record(VISA));
+        assertEquals(1, counter.count(MASTERCARD));
+
+        // Os dois primeiros registros saem da janela
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals(1, counter.count(VISA));
+        assertEquals(0, counter.count(MASTERCARD));
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals(0, counter.count(VISA));
+        assertEquals(1, counter.record(VISA));
+    }
+
+    // --- Modo aproximado ---
+
+    // Testa que o sketch nunca conta menos que o modo exato
+    @Test
+    void testSketchNaoSubestima() throws InvalidDocumentException {
+        ManualClock clock = new ManualClock();
+        PanVelocityCounter exact = PanVelocityCounter.exact(Duration.ofMinutes(5), 5, clock);
+        PanVelocityCounter sketch = new PanVelocityCounter(Duration.ofMinutes(5), 5, 64, 4, clock);
+
+        List<String> cards = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String partial = "411111" + String.format("%09d", i);
+            cards.add(partial + Luhn.checkDigit(partial));
+        }
+        for (int i = 0; i < 2000; i++) {
+            String card = cards.get((i * 31) % (1 + i % cards.size()));
+            exact.record(card);
+            sketch.record(card);
+            if (i % 100 == 0) {
+                clock.advance(Duration.ofSeconds(20));
+            }
+        }
+        for (String card : cards) {
+            assertTrue(sketch.count(card) >= exact.count(card), card);
+        }
+        assertFalse(sketch.isExact());
+    }
+
+    // Testa que o intervalo reutilizado no anel é zerado e aceita números com StringBuilder
+    @Test
+    void testReutilizacaoDoAnel() throws InvalidDocumentException {
+        ManualClock clock = new ManualClock();
+        PanVelocityCounter counter = new PanVelocityCounter(Duration.ofMinutes(2), 2, 1 << 10, 4, clock);
+        for (int i = 0; i < 3; i++) {
+            counter.record(VISA);
+        }
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(4, counter.record(new StringBuilder(VISA)));
+
+        // Cada volta completa do anel zera a posição reutilizada
+        for (int lap = 0; lap < 3; lap++) {
+            clock.advance(Duration.ofMinutes(2));
+            assertEquals(0, counter.count(VISA));
+            assertEquals(1, counter.record(VISA));
+            assertEquals(1, counter.count("4111 1111 1111 1111"));
+        }
+    }
+
+    // Testa contagem exata sem colisões e com atualizações concorrentes
+    @Test
+    void testConcorrencia() throws Exception {
+        PanVelocityCounter counter = new PanVelocityCounter(Duration.ofHours(1), 4, 1 << 12, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < 5000; i++) {
+                        counter.record(VISA);
+                    }
+                } catch (InvalidDocumentException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(20000, counter.count(VISA));
+        assertEquals(0, counter.count(MASTERCARD));
+    }
+
+    // --- Parâmetros ---
+
+    // Testa parâmetros e números inválidos
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new PanVelocityCounter(null, 4, 64, 4));
+        assertThrows(IllegalArgumentException.class, () -> new PanVelocityCounter(Duration.ofMinutes(1), 0, 64, 4));
+        assertThrows(IllegalArgumentException.class, () -> new PanVelocityCounter(Duration.ofMinutes(1), 4, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new PanVelocityCounter(Duration.ofMinutes(1), 4, 64, 0));
+        assertThrows(IllegalArgumentException.class, () -> PanVelocityCounter.exact(Duration.ofMinutes(1), 4, null));
+
+        PanVelocityCounter counter = new PanVelocityCounter(Duration.ofMinutes(1), 4, 64, 4);
+        assertThrows(InvalidDocumentException.class, () -> counter.record(null));
+        assertThrows(InvalidDocumentException.class, () -> counter.record("12345"));
+        assertThrows(InvalidDocumentException.class, () -> counter.count("41111111111111111111"));
+    }
+}
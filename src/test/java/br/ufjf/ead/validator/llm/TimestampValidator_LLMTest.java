@@ -0,0 +1,111 @@
+package br.ufjf.ead.validator.llm;
+
+import br.ufjf.ead.exception.InvalidDocumentException;
+import br.ufjf.ead.validator.TimestampValidator;
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para TimestampValidator.
+ *
+ * @author Fabio Oliveira
+ */
+public class TimestampValidator_LLMTest {
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    // --- Conversão ---
+
+    // Testa o exemplo do formato com fração e offset negativo
+    @Test
+    void testExemplo() {
+        String timestamp = "2026-10-16T12:34:56.789-03:00";
+        Instant expected = OffsetDateTime.parse(timestamp).toInstant();
+        assertEquals(expected.toEpochMilli(), TimestampValidator.toEpochMillis(timestamp));
+        assertEquals(nanos(expected), TimestampValidator.toEpochNanos(timestamp));
+        assertTrue(TimestampValidator.isValid(timestamp));
+    }
+
+    // Testa as variações de segundos, fração e offset
+    @Test
+    void testVariacoes() {
+        assertEquals(Instant.parse("2026-10-16T12:34:00Z").toEpochMilli(),
+            TimestampValidator.toEpochMillis("2026-10-16T12:34Z"));
+        assertEquals(Instant.parse("2026-10-16T12:34:56Z").toEpochMilli(),
+            TimestampValidator.toEpochMillis("2026-10-16t12:34:56z"));
+        assertEquals(Instant.parse("2026-10-16T12:34:56Z").toEpochMilli(),
+            TimestampValidator.toEpochMillis("2026-10-16T12:34:56"));
+        assertEquals(Instant.parse("2026-10-16T12:34:56.500Z").toEpochMilli(),
+            TimestampValidator.toEpochMillis("2026-10-16T12:34:56,5Z"));
+        assertEquals(Instant.parse("2026-10-16T12:34:56.123456789Z").getNano(),
+            TimestampValidator.toEpochNanos("2026-10-16T12:34:56.123456789Z") % 1_000_000_000L);
+        assertEquals(Instant.parse("2026-10-16T07:04:56Z").toEpochMilli(),
+            TimestampValidator.toEpochMillis("2026-10-16T12:34:56+0530"));
+        assertEquals(Instant.parse("2026-10-16T14:34:56Z").toEpochMilli(),
+            TimestampValidator.toEpochMillis("2026-10-16T12:34:56-02"));
+    }
+
+    // Testa datas anteriores a 1970 e o arredondamento dos milissegundos
+    @Test
+    void testAntesDe1970() {
+        String timestamp = "1969-12-31T23:59:59.9999Z";
+        Instant expected = Instant.parse(timestamp);
+        assertEquals(expected.toEpochMilli(), TimestampValidator.toEpochMillis(timestamp));
+        assertEquals(nanos(expected), TimestampValidator.toEpochNanos(timestamp));
+        assertEquals(nanos(Instant.parse("1900-01-01T00:00:00Z")),
+            TimestampValidator.toEpochNanos("1900-01-01T00:00:00Z"));
+    }
+
+    // Testa conversões aleatórias comparando com java.time
+    @Test
+    void testDiferencialJavaTime() {
+        Random random = new Random(49);
+        long min = LocalDateTime.of(1900, 1, 2, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long max = LocalDateTime.of(2100, 12, 30, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < 10_000; i++) {
+            long seconds = min + (long) (random.nextDouble() * (max - min));
+            int nano = random.nextInt(1_000_000_000);
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(37) - 18) * 1800);
+            OffsetDateTime dateTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, nano), offset);
+            String timestamp = dateTime.toString();
+            assertEquals(nanos(dateTime.toInstant()), TimestampValidator.toEpochNanos(timestamp), timestamp);
+            assertEquals(dateTime.toInstant().toEpochMilli(), TimestampValidator.toEpochMillis(timestamp), timestamp);
+        }
+    }
+
+    // --- Validação ---
+
+    // Testa entradas inválidas sem lançar exceção
+    @Test
+    void testInvalidos() {
+        String[] invalid = {
+            null, "", "2026-10-16", "2026-10-16 12:34:56Z", "2026-02-29T12:00Z", "1899-12-31T23:59Z",
+            "2101-01-01T00:00Z", "2026-13-01T00:00Z", "2026-10-16T24:00Z", "2026-10-16T12:60Z",
+            "2026-10-16T12:34:60Z", "2026-10-16T12:34:56.Z", "2026-10-16T12:34:56.1234567890Z",
+            "2026-10-16T12:34:56+19:00", "2026-10-16T12:34:56+03:60", "2026-10-16T12:34:56+3",
+            "2026-10-16T12:34:56+03:0", "2026-10-16T12:34:56Z ", "2026-10-16T12:34.5Z",
+            "2026/10/16T12:34:56Z", "2026-1-16T12:34:56Z", "+026-10-16T12:34:56Z", "2026-10-16T12:34:56X"
+        };
+        for (String timestamp : invalid) {
+            assertFalse(TimestampValidator.isValid(timestamp), String.valueOf(timestamp));
+            assertEquals(TimestampValidator.INVALID_TIMESTAMP, TimestampValidator.toEpochMillis(timestamp));
+        }
+        assertTrue(TimestampValidator.isValid("2024-02-29T12:00+18:00"));
+    }
+
+    // Testa validate com entradas válidas e inválidas
+    @Test
+    void testValidate() {
+        assertDoesNotThrow(() -> TimestampValidator.validate("2026-10-16T12:34:56.789-03:00"));
+        assertThrows(InvalidDocumentException.class, () -> TimestampValidator.validate(null));
+        assertThrows(InvalidDocumentException.class, () -> TimestampValidator.validate("  "));
+        assertThrows(InvalidDocumentException.class, () -> TimestampValidator.validate("16/10/2026 12:34"));
+    }
+}